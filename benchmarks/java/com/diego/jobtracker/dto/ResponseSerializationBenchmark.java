@@ -0,0 +1,104 @@
+package com.diego.jobtracker.dto;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.model.StatusHistory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização das respostas de listagem (o que o conversor JSON faz no fim de
+ * GET /applications) e o mapeamento do histórico de status.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    // mesmas opções que o Spring Boot aplica no ObjectMapper (datas ISO-8601)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private Page<JobApplication> page;
+    private SliceResponse<JobApplication> slice;
+    private List<StatusHistory> history;
+
+    @Setup
+    public void setup() {
+        List<JobApplication> content = new ArrayList<>(size);
+        history = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.of(2024, 3, 10, 12, 0);
+        for (int i = 0; i < size; i++) {
+            JobApplication app = new JobApplication();
+            app.setId((long) i + 1);
+            app.setCompany("Company " + i);
+            app.setRole("Backend Developer");
+            app.setStatus(STATUSES[i % STATUSES.length]);
+            app.setPriority(ApplicationPriority.MEDIUM);
+            app.setAppliedDate(LocalDate.of(2024, 1, 1).plusDays(i % 60));
+            app.setFollowUpDate(i % 3 == 0 ? null : LocalDate.of(2024, 3, 1).plusDays(i % 30));
+            app.setNotes(i % 2 == 0 ? "Falar com o recrutador sobre a segunda etapa" : null);
+            app.setJobUrl("https://jobs.example.com/postings/" + i);
+            app.setSalary("R$ 10.000");
+            app.setUpdatedAt(now.minusHours(i));
+            content.add(app);
+
+            StatusHistory entry = new StatusHistory();
+            entry.setId((long) i + 1);
+            entry.setFromStatus(STATUSES[i % STATUSES.length]);
+            entry.setToStatus(STATUSES[(i + 1) % STATUSES.length]);
+            entry.setChangedAt(now.minusHours(i));
+            history.add(entry);
+        }
+        PageRequest pageable = PageRequest.of(0, size);
+        page = new PageImpl<>(content, pageable, size * 10L);
+        slice = SliceResponse.of(new SliceImpl<>(content, pageable, true), app -> "cursor-" + app.getId());
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSlice() throws Exception {
+        return objectMapper.writeValueAsBytes(slice);
+    }
+
+    @Benchmark
+    public List<StatusHistoryResponse> mapStatusHistory() {
+        return history.stream().map(StatusHistoryResponse::fromEntity).toList();
+    }
+}
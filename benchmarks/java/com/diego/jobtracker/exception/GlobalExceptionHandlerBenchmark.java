@@ -0,0 +1,81 @@
+package com.diego.jobtracker.exception;
+
+import com.diego.jobtracker.dto.UpsertJobApplicationRequest;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpo inválido em POST /applications: validação do @Valid (Hibernate Validator via
+ * Spring) e a montagem da resposta 400 em {@link GlobalExceptionHandler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final UpsertJobApplicationRequest invalid = new UpsertJobApplicationRequest(
+            " ", "", null, null, null, null, null, null, null
+    );
+
+    private LocalValidatorFactoryBean validator;
+    private MethodParameter parameter;
+    private MethodArgumentNotValidException exception;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        Method target = GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("target", UpsertJobApplicationRequest.class);
+        parameter = new MethodParameter(target, 0);
+        exception = validate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validator.close();
+    }
+
+    // só para o MethodParameter da exceção, como o argumento @RequestBody de um controller
+    @SuppressWarnings("unused")
+    private void target(UpsertJobApplicationRequest request) {
+    }
+
+    private MethodArgumentNotValidException validate() {
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(invalid, "request");
+        validator.validate(invalid, result);
+        return new MethodArgumentNotValidException(parameter, result);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> handleValidation() {
+        return handler.handleValidation(exception);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validateAndHandle() {
+        return handler.handleValidation(validate());
+    }
+}
@@ -0,0 +1,64 @@
+package com.diego.jobtracker.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latências (ns) e erros de uma operação. Guarda todas as amostras: numa execução de
+ * minutos são poucos milhões de longs, e os percentis saem exatos.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int count;
+    private final Map<String, Long> errors = new TreeMap<>();
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+        samples[count++] = nanos;
+    }
+
+    synchronized void error(String reason) {
+        errors.merge(reason, 1L, Long::sum);
+    }
+
+    synchronized Stats stats(String operation, double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        long errorCount = errors.values().stream().mapToLong(Long::longValue).sum();
+        double mean = count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1e6;
+        return new Stats(
+                operation,
+                count,
+                errorCount,
+                seconds > 0 ? count / seconds : 0,
+                mean,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.95),
+                percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1e6,
+                new TreeMap<>(errors)
+        );
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /** Latências em ms; throughput = respostas de sucesso por segundo medido. */
+    record Stats(
+            String operation,
+            long requests,
+            long errors,
+            double throughput,
+            double meanMs,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            Map<String, Long> errorsByReason
+    ) {}
+}
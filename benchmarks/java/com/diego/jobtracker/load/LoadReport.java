@@ -0,0 +1,98 @@
+package com.diego.jobtracker.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/** Resultado de uma execução: report.json (para comparar execuções) e report.html. */
+record LoadReport(
+        Instant startedAt,
+        Map<String, String> options,
+        double measuredSeconds,
+        long dropped,
+        List<LatencyRecorder.Stats> operations,
+        LatencyRecorder.Stats total
+) {
+
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(dir.resolve("report.json").toFile(), this);
+        Files.writeString(dir.resolve("report.html"), html());
+    }
+
+    String table() {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%-10s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (LatencyRecorder.Stats stats : rows()) {
+            out.append(String.format(Locale.ROOT, "%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.operation(), stats.requests(), stats.errors(), stats.throughput(),
+                    stats.p50Ms(), stats.p95Ms(), stats.p99Ms(), stats.maxMs()));
+        }
+        if (dropped > 0) out.append("dropped (max-in-flight): ").append(dropped).append('\n');
+        return out.toString();
+    }
+
+    private List<LatencyRecorder.Stats> rows() {
+        return Stream.concat(operations.stream(), Stream.of(total)).toList();
+    }
+
+    private String html() {
+        StringBuilder rows = new StringBuilder();
+        for (LatencyRecorder.Stats stats : rows()) {
+            rows.append(String.format(Locale.ROOT,
+                    "<tr><td>%s</td><td>%d</td><td>%d</td><td>%.1f</td><td>%.2f</td><td>%.2f</td>"
+                            + "<td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%s</td></tr>%n",
+                    stats.operation(), stats.requests(), stats.errors(), stats.throughput(), stats.meanMs(),
+                    stats.p50Ms(), stats.p95Ms(), stats.p99Ms(), stats.maxMs(),
+                    escape(stats.errorsByReason().isEmpty() ? "" : stats.errorsByReason().toString())));
+        }
+        StringBuilder config = new StringBuilder();
+        options.forEach((key, value) -> config.append("<li><code>").append(escape(key)).append(" = ")
+                .append(escape(value)).append("</code></li>\n"));
+        return String.format(Locale.ROOT, """
+                <!doctype html>
+                <html lang="pt-BR">
+                <head>
+                <meta charset="utf-8">
+                <title>Job Tracker - teste de carga</title>
+                <style>
+                  body { font-family: system-ui, sans-serif; margin: 2rem; }
+                  table { border-collapse: collapse; }
+                  th, td { border: 1px solid #ccc; padding: .3rem .6rem; text-align: right; }
+                  th:first-child, td:first-child, td:last-child { text-align: left; }
+                  tr:last-child { font-weight: bold; }
+                </style>
+                </head>
+                <body>
+                <h1>Teste de carga</h1>
+                <p>Início: %s &middot; janela medida: %.1f s &middot; descartadas (max-in-flight): %d</p>
+                <table>
+                <tr><th>operação</th><th>requisições</th><th>erros</th><th>req/s</th><th>média ms</th>
+                <th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>máx ms</th><th>erros por motivo</th></tr>
+                %s</table>
+                <h2>Configuração</h2>
+                <ul>
+                %s</ul>
+                </body>
+                </html>
+                """, startedAt, measuredSeconds, dropped, rows, config);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
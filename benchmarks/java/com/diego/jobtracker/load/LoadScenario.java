@@ -0,0 +1,226 @@
+package com.diego.jobtracker.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Operações do teste de carga contra a API, como o front as faz (cookie de sessão,
+ * JSON), e o sorteio ponderado entre elas.
+ */
+final class LoadScenario {
+
+    static final String PASSWORD = "load-test-123";
+    private static final String[] STATUSES = {"APPLIED", "INTERVIEW", "OFFER", "REJECTED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] COMPANIES = {"Nubank", "Itaú", "Mercado Livre", "iFood", "Stone", "Globo", "TOTVS"};
+    private static final String[] LIST_QUERIES = {
+            "page=0&size=20&sort=appliedDate,desc",
+            "status=APPLIED,INTERVIEW&page=0&size=20&sort=appliedDate,desc",
+            "priority=HIGH&page=0&size=20",
+            "company=nu&page=0&size=20",
+            "followUpDue=true&page=0&size=20&sort=followUpDate,asc",
+            "view=summary&page=1&size=50",
+            "cursor=&size=20"
+    };
+
+    enum Operation {
+        LOGIN, DASHBOARD, LIST, CREATE, STATUS, HISTORY, EXPORT;
+
+        String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    /** Um usuário semeado: cookie atual e ids das candidaturas dele. */
+    static final class Session {
+        final String email;
+        volatile String cookie;
+        final List<Long> applicationIds = new ArrayList<>();
+
+        Session(String email) {
+            this.email = email;
+        }
+
+        synchronized void add(Long id) {
+            applicationIds.add(id);
+        }
+
+        synchronized Long randomApplication() {
+            if (applicationIds.isEmpty()) return null;
+            return applicationIds.get(ThreadLocalRandom.current().nextInt(applicationIds.size()));
+        }
+    }
+
+    /** Falha esperada numa operação (status HTTP fora de 2xx): vira erro no relatório. */
+    static final class RequestFailed extends Exception {
+        RequestFailed(String reason) {
+            super(reason, null, false, false);
+        }
+    }
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Operation[] wheel;
+
+    LoadScenario(HttpClient client, URI baseUri, Map<Operation, Integer> weights) {
+        this.client = client;
+        this.baseUri = baseUri;
+        List<Operation> slots = new ArrayList<>();
+        weights.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) slots.add(operation);
+        });
+        if (slots.isEmpty()) throw new IllegalArgumentException("mix has no operation with weight > 0");
+        this.wheel = slots.toArray(Operation[]::new);
+    }
+
+    /** "login:2,list:40,..." (operações ausentes ficam com peso 0). */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    Operation next() {
+        return wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+    }
+
+    void execute(Operation operation, Session session) throws IOException, InterruptedException, RequestFailed {
+        switch (operation) {
+            case LOGIN -> login(session);
+            case DASHBOARD -> send(get(session, "/dashboard"));
+            case LIST -> send(get(session, "/applications?" + pick(LIST_QUERIES)));
+            case CREATE -> {
+                JsonNode created = json(send(post(session, "/applications", newApplication())));
+                session.add(created.get("id").asLong());
+            }
+            case STATUS -> {
+                Long id = session.randomApplication();
+                if (id == null) throw new RequestFailed("no-application");
+                send(request(session, "/applications/" + id + "/status")
+                        .method("PATCH", body("{\"status\":\"" + pick(STATUSES) + "\"}"))
+                        .header("Content-Type", "application/json")
+                        .build());
+            }
+            case HISTORY -> {
+                Long id = session.randomApplication();
+                if (id == null) throw new RequestFailed("no-application");
+                send(get(session, "/applications/" + id + "/history"));
+            }
+            case EXPORT -> send(get(session, "/applications/export?format=csv"));
+        }
+    }
+
+    Session register(String email, String name) throws IOException, InterruptedException, RequestFailed {
+        Session session = new Session(email);
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(baseUri.resolve("/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(body(objectMapper.writeValueAsString(Map.of(
+                        "name", name, "email", email, "password", PASSWORD
+                ))))
+                .build());
+        session.cookie = sessionCookie(response);
+        return session;
+    }
+
+    void login(Session session) throws IOException, InterruptedException, RequestFailed {
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(body(objectMapper.writeValueAsString(Map.of("email", session.email, "password", PASSWORD))))
+                .build());
+        session.cookie = sessionCookie(response);
+    }
+
+    /** Semeia pelo import em massa (NDJSON), uma requisição por usuário. */
+    void seed(Session session, int applications) throws IOException, InterruptedException, RequestFailed {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < applications; i++) {
+            ndjson.append(objectMapper.writeValueAsString(newApplication())).append('\n');
+        }
+        HttpResponse<byte[]> response = send(request(session, "/applications/bulk")
+                .header("Content-Type", "application/x-ndjson")
+                .POST(body(ndjson.toString()))
+                .build());
+        for (String line : new String(response.body(), StandardCharsets.UTF_8).split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            if (row.path("accepted").asBoolean() && row.hasNonNull("id")) session.add(row.get("id").asLong());
+        }
+    }
+
+    private Map<String, Object> newApplication() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate applied = LocalDate.now().minusDays(random.nextInt(120));
+        Map<String, Object> app = new LinkedHashMap<>();
+        app.put("company", pick(COMPANIES) + " " + random.nextInt(1000));
+        app.put("role", random.nextBoolean() ? "Backend Developer" : "Engenheiro de Software");
+        app.put("status", pick(STATUSES));
+        app.put("priority", pick(PRIORITIES));
+        app.put("appliedDate", applied.toString());
+        if (random.nextInt(3) > 0) app.put("followUpDate", applied.plusDays(random.nextInt(10, 150)).toString());
+        if (random.nextBoolean()) app.put("notes", "Entrevista técnica com o time de plataforma; enviar case até sexta.");
+        app.put("jobUrl", "https://jobs.example.com/" + random.nextInt(1_000_000));
+        return app;
+    }
+
+    private HttpRequest get(Session session, String path) {
+        return request(session, path).GET().build();
+    }
+
+    private HttpRequest post(Session session, String path, Object payload) throws IOException {
+        return request(session, path)
+                .header("Content-Type", "application/json")
+                .POST(body(objectMapper.writeValueAsString(payload)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(Session session, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", session.cookie);
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException, RequestFailed {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) throw new RequestFailed("http-" + response.statusCode());
+        return response;
+    }
+
+    private JsonNode json(HttpResponse<byte[]> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static String sessionCookie(HttpResponse<?> response) throws RequestFailed {
+        // só o par nome=valor, sem os atributos (Path, HttpOnly, ...)
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> !cookie.contains("Max-Age=0"))
+                .map(cookie -> cookie.split(";", 2)[0])
+                .findFirst()
+                .orElseThrow(() -> new RequestFailed("no-session-cookie"));
+    }
+
+    private static HttpRequest.BodyPublisher body(String content) {
+        return HttpRequest.BodyPublishers.ofString(content, StandardCharsets.UTF_8);
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+}
@@ -0,0 +1,314 @@
+package com.diego.jobtracker.load;
+
+import com.diego.jobtracker.JobTrackerApiApplication;
+import com.diego.jobtracker.load.LoadScenario.Operation;
+import com.diego.jobtracker.load.LoadScenario.RequestFailed;
+import com.diego.jobtracker.load.LoadScenario.Session;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga ponta a ponta: sobe a API (profile local/H2, ou outro banco via --jdbc-url)
+ * ou usa uma já rodando (--target), semeia N usuários x M candidaturas e roda um mix
+ * ponderado de operações com HttpClient + virtual threads.
+ *
+ * Modelos de chegada:
+ *  closed  --concurrency usuários virtuais, cada um espera a resposta (+ --think-ms) antes
+ *          da próxima requisição; o throughput é consequência da latência.
+ *  open    --rate requisições/s chegando independentemente das respostas (Poisson ou
+ *          constante, --arrival). A latência conta a partir do instante planejado, então
+ *          atraso do gerador também aparece (sem coordinated omission). Acima de
+ *          --max-in-flight a chegada é descartada e contada.
+ *
+ * Saída: tabela no console e target/load/report.json + report.html (--out).
+ * Ex (ver README):
+ *  mvn -Pbenchmarks -DskipTests test-compile exec:exec@load -Dload.args="--model=open --rate=300"
+ */
+public final class LoadTest {
+
+    private static final Map<String, String> DEFAULTS = defaults();
+
+    private LoadTest() {
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("target", "");
+        defaults.put("profile", "local");
+        defaults.put("jdbc-url", "");
+        defaults.put("db-user", "");
+        defaults.put("db-password", "");
+        defaults.put("users", "20");
+        defaults.put("applications", "200");
+        defaults.put("model", "closed");
+        defaults.put("concurrency", "32");
+        defaults.put("think-ms", "0");
+        defaults.put("rate", "200");
+        defaults.put("arrival", "poisson");
+        defaults.put("max-in-flight", "1000");
+        defaults.put("warmup", "10");
+        defaults.put("duration", "60");
+        defaults.put("mix", "login:2,dashboard:15,list:35,create:10,status:15,history:18,export:5");
+        defaults.put("out", "target/load");
+        return defaults;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        ConfigurableApplicationContext app = null;
+        try {
+            URI baseUri;
+            if (options.get("target").isBlank()) {
+                app = boot(options);
+                baseUri = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port"));
+            } else {
+                baseUri = URI.create(options.get("target"));
+            }
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(executor)
+                        .build();
+                LoadScenario scenario = new LoadScenario(client, baseUri, LoadScenario.parseMix(options.get("mix")));
+
+                System.out.printf("Seeding %s users x %s applications on %s%n",
+                        options.get("users"), options.get("applications"), baseUri);
+                List<Session> sessions = seed(scenario, executor, integer(options, "users"),
+                        integer(options, "applications"));
+
+                LoadReport report = run(scenario, executor, sessions, options);
+                System.out.print(report.table());
+                Path out = Path.of(options.get("out"));
+                report.write(out);
+                System.out.println("Report: " + out.toAbsolutePath().resolve("report.html"));
+            }
+        } finally {
+            if (app != null) app.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(Map<String, String> options) {
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.profiles.active=" + options.get("profile"),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                // todo o tráfego sai de um IP e os mesmos e-mails logam várias vezes
+                "--app.auth.rate-limit.ip.capacity=1000000000",
+                "--app.auth.rate-limit.ip.per-minute=1000000000",
+                "--app.auth.rate-limit.email.capacity=1000000000",
+                "--app.auth.rate-limit.email.per-minute=1000000000"
+        ));
+        if (!options.get("jdbc-url").isBlank()) {
+            properties.add("--spring.datasource.url=" + options.get("jdbc-url"));
+            properties.add("--spring.datasource.username=" + options.get("db-user"));
+            properties.add("--spring.datasource.password=" + options.get("db-password"));
+        }
+        // o restart do devtools reexecutaria o main desta classe com os argumentos do Spring
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return SpringApplication.run(JobTrackerApiApplication.class, properties.toArray(String[]::new));
+    }
+
+    private static List<Session> seed(LoadScenario scenario, ExecutorService executor, int users, int applications)
+            throws Exception {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<Future<Session>> futures = new ArrayList<>();
+        // BCrypt no cadastro: poucos por vez para não estourar a fila de app.auth.hashing
+        Semaphore permits = new Semaphore(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        for (int i = 0; i < users; i++) {
+            String email = "load-" + run + "-" + i + "@load.local";
+            String name = "Load " + i;
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    Session session = scenario.register(email, name);
+                    scenario.seed(session, applications);
+                    return session;
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        List<Session> sessions = new ArrayList<>(users);
+        for (var future : futures) sessions.add(future.get());
+        return sessions;
+    }
+
+    private static LoadReport run(
+            LoadScenario scenario,
+            ExecutorService executor,
+            List<Session> sessions,
+            Map<String, String> options
+    ) throws InterruptedException {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) recorders.put(operation, new LatencyRecorder());
+        LatencyRecorder total = new LatencyRecorder();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(integer(options, "warmup"));
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(integer(options, "duration"));
+        Instant startedAt = Instant.now();
+        AtomicLong dropped = new AtomicLong();
+
+        RequestRunner request = (operation, session, intendedStart) -> {
+            try {
+                scenario.execute(operation, session);
+                long latency = System.nanoTime() - intendedStart;
+                if (intendedStart >= measureFrom) {
+                    recorders.get(operation).record(latency);
+                    total.record(latency);
+                }
+            } catch (RequestFailed | IOException ex) {
+                if (intendedStart >= measureFrom) {
+                    String reason = ex instanceof RequestFailed ? ex.getMessage() : ex.getClass().getSimpleName();
+                    recorders.get(operation).error(reason);
+                    total.error(reason);
+                }
+            }
+        };
+
+        System.out.printf("Running %s model: %ss warmup + %ss measured%n",
+                options.get("model"), options.get("warmup"), options.get("duration"));
+        switch (options.get("model")) {
+            case "closed" -> closedLoop(scenario, executor, sessions, options, end, request);
+            case "open" -> dropped.set(openLoop(scenario, executor, sessions, options, measureFrom, end, request));
+            default -> throw new IllegalArgumentException("--model must be closed or open");
+        }
+
+        double seconds = (Math.min(System.nanoTime(), end) - measureFrom) / 1e9;
+        List<LatencyRecorder.Stats> operations = new ArrayList<>();
+        recorders.forEach((operation, recorder) -> {
+            LatencyRecorder.Stats stats = recorder.stats(operation.key(), seconds);
+            if (stats.requests() + stats.errors() > 0) operations.add(stats);
+        });
+        Map<String, String> reported = new LinkedHashMap<>(options);
+        reported.computeIfPresent("db-password", (name, value) -> value.isEmpty() ? value : "***");
+        return new LoadReport(startedAt, reported, seconds, dropped.get(), operations, total.stats("total", seconds));
+    }
+
+    /** Cada usuário virtual usa uma sessão fixa e só manda a próxima requisição depois da resposta. */
+    private static void closedLoop(
+            LoadScenario scenario,
+            ExecutorService executor,
+            List<Session> sessions,
+            Map<String, String> options,
+            long end,
+            RequestRunner request
+    ) throws InterruptedException {
+        int concurrency = integer(options, "concurrency");
+        long thinkMs = integer(options, "think-ms");
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Session session = sessions.get(i % sessions.size());
+            workers.add(executor.submit(() -> {
+                while (System.nanoTime() < end) {
+                    request.execute(scenario.next(), session, System.nanoTime());
+                    if (thinkMs > 0) Thread.sleep(thinkMs);
+                }
+                return null;
+            }));
+        }
+        for (var worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+    }
+
+    /** Chegadas no ritmo de --rate, sem esperar respostas; devolve quantas foram descartadas (após o warmup). */
+    private static long openLoop(
+            LoadScenario scenario,
+            ExecutorService executor,
+            List<Session> sessions,
+            Map<String, String> options,
+            long measureFrom,
+            long end,
+            RequestRunner request
+    ) throws InterruptedException {
+        double intervalNanos = 1e9 / Double.parseDouble(options.get("rate"));
+        boolean poisson = options.get("arrival").equals("poisson");
+        Semaphore inFlight = new Semaphore(integer(options, "max-in-flight"));
+        AtomicInteger pending = new AtomicInteger();
+        long dropped = 0;
+
+        double next = System.nanoTime();
+        while (next < end) {
+            long intendedStart = (long) next;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            if (inFlight.tryAcquire()) {
+                Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+                Operation operation = scenario.next();
+                pending.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        request.execute(operation, session, intendedStart);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.release();
+                        pending.decrementAndGet();
+                    }
+                });
+            } else if (intendedStart >= measureFrom) {
+                dropped++;
+            }
+            next += poisson ? -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * intervalNanos : intervalNanos;
+        }
+        // espera as que ainda estão em andamento (contam no relatório)
+        while (pending.get() > 0) Thread.sleep(10);
+        return dropped;
+    }
+
+    @FunctionalInterface
+    private interface RequestRunner {
+        void execute(Operation operation, Session session, long intendedStart) throws InterruptedException;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("expected --name=value, got " + arg + "; options: " + DEFAULTS.keySet());
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("unknown option --" + name + "; options: " + DEFAULTS.keySet());
+            }
+            options.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private static int integer(Map<String, String> options, String name) {
+        return Integer.parseInt(options.get(name));
+    }
+}
@@ -0,0 +1,75 @@
+package com.diego.jobtracker.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e validação de JWT. verifyUncached = HMAC + parse do JSON (primeira requisição
+ * com o cookie); verifyCached = o que as requisições seguintes pagam (SHA-256 + lookup).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SUBJECT = "bench@jobtracker.local";
+
+    private JwtService cached;
+    private JwtService uncached;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cached = jwtService(10_000);
+        uncached = jwtService(0);
+        token = cached.generateToken(42L, SUBJECT);
+        cached.verify(token);
+    }
+
+    private static JwtService jwtService(int cacheEntries) {
+        VerifiedTokenCache cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", cacheEntries);
+        cache.init();
+        JwtService service = new JwtService(cache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "jwtSecret", "benchmark-secret-benchmark-secret-benchmark-secret");
+        ReflectionTestUtils.setField(service, "expirationMs", 3_600_000L);
+        service.init();
+        return service;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken(42L, SUBJECT);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> verifyUncached() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return uncached.isTokenValid(token, SUBJECT);
+    }
+}
@@ -0,0 +1,72 @@
+-- Benchmark da busca textual (V6) sobre 1M de candidaturas.
+--
+-- Rodar contra o PostgreSQL do docker compose (perfil dev, migrations aplicadas):
+--   docker compose exec -T postgres psql -U jobtracker -d jobtracker_dev < benchmarks/sql/fulltext-search-1m.sql
+--
+-- Cria um usuário próprio para o benchmark, insere 1M de linhas distribuídas
+-- entre 1.000 usuários (~1.000 por usuário, um usuário "pesado" com 100k),
+-- e mede com EXPLAIN ANALYZE a mesma consulta que JobApplicationSearchRepositoryImpl gera.
+-- Tudo roda numa transação que termina em ROLLBACK: nada fica no banco.
+
+\timing on
+BEGIN;
+
+INSERT INTO users (name, email, password_hash)
+SELECT 'bench ' || g, 'bench-' || g || '@search.local', 'x'
+FROM generate_series(1, 1000) AS g;
+
+CREATE TEMP TABLE bench_users AS
+SELECT id, row_number() OVER (ORDER BY id) AS n
+FROM users
+WHERE email LIKE 'bench-%@search.local';
+
+INSERT INTO job_applications (company, role, status, priority, applied_date, notes, user_id)
+SELECT
+    (ARRAY['Ação Digital', 'Acme Corp', 'Nubank', 'Itaú Unibanco', 'Mercado Livre',
+           'Stone', 'iFood', 'Totvs', 'Magalu', 'Olist'])[1 + (g % 10)] || ' ' || (g % 997),
+    (ARRAY['Engenheiro de Software', 'Desenvolvedor Backend', 'Analista de Dados',
+           'Product Manager', 'SRE', 'Tech Lead'])[1 + (g % 6)],
+    (ARRAY['APPLIED', 'INTERVIEW', 'OFFER', 'REJECTED'])[1 + (g % 4)],
+    (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + (g % 3)],
+    DATE '2023-01-01' + (g % 700),
+    CASE WHEN g % 3 = 0 THEN 'Entrevista em São Paulo, contato via LinkedIn ' || g END,
+    (SELECT id FROM bench_users WHERE n = CASE WHEN g <= 100000 THEN 1 ELSE 1 + (g % 1000) END)
+FROM generate_series(1, 1000000) AS g;
+
+ANALYZE job_applications;
+
+-- Usuário pesado (100k linhas), termo frequente, primeira página
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT ja.id, ja.company, ja.role, ja.status, ja.priority, ja.applied_date, ja.follow_up_date,
+       ja.notes, ja.job_url, ja.salary, ja.updated_at, ja.user_id
+FROM job_applications ja
+WHERE ja.user_id = (SELECT id FROM bench_users WHERE n = 1)
+  AND ja.search_vector @@ to_tsquery('simple', 'engenheiro:* & sao:*')
+ORDER BY ts_rank(ja.search_vector, to_tsquery('simple', 'engenheiro:* & sao:*')) DESC, ja.id DESC
+LIMIT 10 OFFSET 0;
+
+-- Usuário típico (~1k linhas), termo seletivo com acento na consulta original ("ação")
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT ja.id, ja.company, ja.role, ja.status, ja.priority, ja.applied_date, ja.follow_up_date,
+       ja.notes, ja.job_url, ja.salary, ja.updated_at, ja.user_id
+FROM job_applications ja
+WHERE ja.user_id = (SELECT id FROM bench_users WHERE n = 500)
+  AND ja.search_vector @@ to_tsquery('simple', 'acao:*')
+ORDER BY ts_rank(ja.search_vector, to_tsquery('simple', 'acao:*')) DESC, ja.id DESC
+LIMIT 10 OFFSET 0;
+
+-- Contagem da página (mesmo WHERE)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*)
+FROM job_applications ja
+WHERE ja.user_id = (SELECT id FROM bench_users WHERE n = 1)
+  AND ja.search_vector @@ to_tsquery('simple', 'engenheiro:* & sao:*');
+
+-- Referência: o filtro antigo do front (LIKE sem índice) na mesma base
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*)
+FROM job_applications ja
+WHERE ja.user_id = (SELECT id FROM bench_users WHERE n = 1)
+  AND (lower(jt_unaccent(ja.company || ' ' || ja.role || ' ' || coalesce(ja.notes, ''))) LIKE '%engenheiro%');
+
+ROLLBACK;
@@ -6,7 +6,7 @@ import { useTheme } from "../context/ThemeContext";
 import { useTranslation, useUser } from "../context/UserContext";
 import { useAuth } from "../context/AuthContext";
 import type { Application } from "../lib/types";
-import { fetchOverdueFollowUps } from "../lib/apiClient";
+import { fetchOverdueFollowUps, subscribeApplicationEvents } from "../lib/apiClient";
 
 type Props = {
   onOpenSidebar: () => void;
@@ -43,6 +43,9 @@ export function Topbar({ onOpenSidebar, onToggleSidebarVisibility, sidebarVisibl
 
   const overdueCount = overdueTotal;
 
+  // Sobe a cada mudança de candidatura vinda do stream SSE
+  const [eventsVersion, setEventsVersion] = useState(0);
+
   useEffect(() => {
     let alive = true;
 
@@ -62,13 +65,32 @@ export function Topbar({ onOpenSidebar, onToggleSidebarVisibility, sidebarVisibl
     }
 
     void loadOverdueFollowUps();
-    const interval = window.setInterval(() => void loadOverdueFollowUps(), 60000);
-
     return () => {
       alive = false;
-      window.clearInterval(interval);
     };
-  }, [location.pathname]);
+  }, [location.pathname, eventsVersion]);
+
+  // Uma única assinatura do stream enquanto a Topbar está montada (não reconecta a cada
+  // troca de rota), com debounce pra rajadas
+  useEffect(() => {
+    let timer: number | undefined;
+    const unsubscribe = subscribeApplicationEvents(() => {
+      window.clearTimeout(timer);
+      timer = window.setTimeout(() => setEventsVersion((version) => version + 1), 500);
+    });
+
+    return () => {
+      window.clearTimeout(timer);
+      unsubscribe();
+    };
+  }, []);
+
+  // Sem nenhuma escrita o stream fica quieto, mas um follow-up de hoje vira atrasado na virada
+  // do dia (no fuso do servidor): recarrega devagar mesmo assim
+  useEffect(() => {
+    const timer = window.setInterval(() => setEventsVersion((version) => version + 1), 10 * 60_000);
+    return () => window.clearInterval(timer);
+  }, []);
 
   // Close dropdowns on outside click
   useEffect(() => {
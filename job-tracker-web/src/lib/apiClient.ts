@@ -1,4 +1,12 @@
-import type { Application, ApplicationStatus, PageResponse } from "./types";
+import type {
+  Application,
+  ApplicationChangeEvent,
+  ApplicationStats,
+  ApplicationStatus,
+  Dashboard,
+  FollowUpOverview,
+  PageResponse,
+} from "./types";
 import { buildAuthJsonHeaders, notifyUnauthorizedFromStatus } from "./auth";
 
 const API_BASE =
@@ -24,50 +32,70 @@ export async function apiFetch<T>(path: string, init?: RequestInit): Promise<T>
   return res.json() as Promise<T>;
 }
 
+/**
+ * Assina o stream SSE de alterações do usuário (cookie de sessão).
+ * O EventSource reconecta sozinho mandando Last-Event-ID. Retorna a função de cancelamento.
+ */
+export function subscribeApplicationEvents(onEvent: (event: ApplicationChangeEvent) => void): () => void {
+  const source = new EventSource(`${API_BASE}/applications/events`, { withCredentials: true });
+  source.onmessage = (message) => {
+    try {
+      onEvent(JSON.parse(message.data) as ApplicationChangeEvent);
+    } catch {
+      // evento malformado: ignora
+    }
+  };
+  return () => source.close();
+}
+
+export async function fetchApplicationStats(): Promise<ApplicationStats> {
+  return apiFetch<ApplicationStats>(`/applications/stats`);
+}
+
+export async function fetchDashboard(): Promise<Dashboard> {
+  return apiFetch<Dashboard>(`/dashboard`);
+}
+
 export async function fetchStatusCount(status: ApplicationStatus): Promise<number> {
   const data = await apiFetch<PageResponse<Application>>(
-    `/applications?page=0&size=1&sort=appliedDate,desc&status=${status}`
+    `/applications?view=summary&page=0&size=1&sort=appliedDate,desc&status=${status}`
   );
   return data.totalElements;
 }
 
 export async function fetchTotalCount(): Promise<number> {
   const data = await apiFetch<PageResponse<Application>>(
-    `/applications?page=0&size=1&sort=appliedDate,desc`
+    `/applications?view=summary&page=0&size=1&sort=appliedDate,desc`
   );
   return data.totalElements;
 }
 
 export async function fetchRecentApplications(limit = 5): Promise<Application[]> {
   const data = await apiFetch<PageResponse<Application>>(
-    `/applications?page=0&size=${limit}&sort=appliedDate,desc`
+    `/applications?view=summary&page=0&size=${limit}&sort=appliedDate,desc`
   );
   return data.content;
 }
 
 export async function fetchAllApplications(): Promise<Application[]> {
   const data = await apiFetch<PageResponse<Application>>(
-    `/applications?page=0&size=200&sort=appliedDate,desc`
+    `/applications?view=summary&page=0&size=200&sort=appliedDate,desc`
   );
   return data.content;
 }
 
 export async function fetchDueFollowUps(limit = 5): Promise<Application[]> {
-  const data = await apiFetch<PageResponse<Application>>(
-    `/applications?page=0&size=${limit}&sort=followUpDate,asc&followUpDue=true`
-  );
-  return data.content;
+  const data = await apiFetch<FollowUpOverview>(`/applications/follow-ups?size=${limit}`);
+  return data.items;
 }
 
 export async function fetchOverdueFollowUps(limit = 8): Promise<{
   content: Application[];
   totalElements: number;
 }> {
-  const data = await apiFetch<PageResponse<Application>>(
-    `/applications?page=0&size=${limit}&sort=followUpDate,asc&followUpOverdue=true`
-  );
+  const data = await apiFetch<FollowUpOverview>(`/applications/follow-ups?overdue=true&size=${limit}`);
   return {
-    content: data.content,
-    totalElements: data.totalElements,
+    content: data.items,
+    totalElements: data.overdue,
   };
 }
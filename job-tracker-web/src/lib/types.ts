@@ -15,6 +15,13 @@ export type Application = {
   updatedAt?: string | null;
 };
 
+// Evento do stream GET /applications/events ("resync" = recarregar tudo)
+export type ApplicationChangeEvent = {
+  type: "created" | "updated" | "status-changed" | "deleted" | "resync";
+  id?: number;
+  status?: ApplicationStatus;
+};
+
 export type StatusHistoryEntry = {
   id: number;
   fromStatus: ApplicationStatus | null;
@@ -22,6 +29,22 @@ export type StatusHistoryEntry = {
   changedAt: string;
 };
 
+export type ApplicationStats = {
+  total: number;
+  byStatus: Record<ApplicationStatus, number>;
+  byPriority: Record<ApplicationPriority, number>;
+  byAppliedMonth: Record<string, number>; // "yyyy-mm" -> total
+  followUpDue: number;
+  followUpOverdue: number;
+};
+
+// GET /applications/follow-ups: contagens + primeiros itens
+export type FollowUpOverview = {
+  due: number;
+  overdue: number;
+  items: Application[];
+};
+
 export type PageResponse<T> = {
   content: T[];
   totalElements: number;
@@ -47,3 +70,9 @@ export type AuthUser = {
 export type AuthResponse = {
   user: AuthUser;
 };
+
+export type Dashboard = {
+  stats: ApplicationStats;
+  recent: Application[];
+  dueFollowUps: Application[];
+};
@@ -344,44 +344,6 @@ function getErrorMessage(error: unknown, fallback: string) {
   return fallback;
 }
 
-function csvCell(value: unknown): string {
-  const raw = value == null ? "" : String(value);
-  if (!/[",\n\r]/.test(raw)) return raw;
-  return `"${raw.replace(/"/g, "\"\"")}"`;
-}
-
-function toApplicationsCsv(apps: Application[]): string {
-  const header = [
-    "company",
-    "role",
-    "status",
-    "priority",
-    "appliedDate",
-    "followUpDate",
-    "salary",
-    "jobUrl",
-    "notes",
-  ];
-
-  const lines = apps.map((app) =>
-    [
-      app.company ?? "",
-      app.role ?? "",
-      app.status ?? "APPLIED",
-      app.priority ?? "MEDIUM",
-      app.appliedDate ?? "",
-      app.followUpDate ?? "",
-      app.salary ?? "",
-      app.jobUrl ?? "",
-      app.notes ?? "",
-    ]
-      .map(csvCell)
-      .join(",")
-  );
-
-  return [header.join(","), ...lines].join("\n");
-}
-
 type JsonBackupPayload = {
   version: number;
   exportedAt: string;
@@ -570,11 +532,13 @@ async function listApplications(params: {
   status?: ApplicationStatus;
   followUpDue?: boolean;
   followUpOverdue?: boolean;
+  q?: string;
 }): Promise<PageResponse<Application>> {
   const qs = new URLSearchParams();
   qs.set("page", String(params.page));
   qs.set("size", String(params.size));
   qs.set("sort", params.sort);
+  if (params.q) qs.set("q", params.q);
   if (params.status) qs.set("status", params.status);
   if (params.followUpDue) qs.set("followUpDue", "true");
   if (params.followUpOverdue) qs.set("followUpOverdue", "true");
@@ -582,6 +546,24 @@ async function listApplications(params: {
   return api<PageResponse<Application>>(`/applications?${qs.toString()}`);
 }
 
+// GET /applications/export devolve o arquivo inteiro num único streaming, com os mesmos filtros da listagem
+async function exportApplications(params: {
+  format: "csv" | "ndjson";
+  status?: ApplicationStatus;
+  followUpDue?: boolean;
+  followUpOverdue?: boolean;
+  q?: string;
+}): Promise<string> {
+  const qs = new URLSearchParams();
+  qs.set("format", params.format);
+  if (params.q) qs.set("q", params.q);
+  if (params.status) qs.set("status", params.status);
+  if (params.followUpDue) qs.set("followUpDue", "true");
+  if (params.followUpOverdue) qs.set("followUpOverdue", "true");
+
+  return api<string>(`/applications/export?${qs.toString()}`);
+}
+
 async function createApplication(payload: Omit<Application, "id">): Promise<Application> {
   return api<Application>(`/applications`, {
     method: "POST",
@@ -716,10 +698,17 @@ export function ApplicationsPage() {
     setFollowUpOverdueOnly(overdueFromUrl);
   }, [location.search]);
 
+  // Busca é feita no backend (?q=), com debounce pra não disparar a cada tecla
+  const [debouncedSearch, setDebouncedSearch] = useState(search.trim());
+  useEffect(() => {
+    const timer = window.setTimeout(() => setDebouncedSearch(search.trim()), 300);
+    return () => window.clearTimeout(timer);
+  }, [search]);
+
   // Reset page when filters/sort change
   useEffect(() => {
     setPage(0);
-  }, [statusParam, sort, followUpDueOnly, followUpOverdueOnly]);
+  }, [statusParam, sort, followUpDueOnly, followUpOverdueOnly, debouncedSearch]);
 
   // Centralizei o reload pra não repetir lógica e evitar bugs
   async function reload(opts?: { pageOverride?: number }) {
@@ -739,6 +728,7 @@ export function ApplicationsPage() {
           status: statusParam,
           followUpDue: followUpDueOnly,
           followUpOverdue: followUpOverdueOnly,
+          q: debouncedSearch,
         }),
         listApplications({
           page: 0,
@@ -780,6 +770,7 @@ export function ApplicationsPage() {
           status: statusParam,
           followUpDue: followUpDueOnly,
           followUpOverdue: followUpOverdueOnly,
+          q: debouncedSearch,
         }),
           listApplications({
             page: 0,
@@ -810,17 +801,10 @@ export function ApplicationsPage() {
     return () => {
       alive = false;
     };
-  }, [page, size, sort, statusParam, followUpDueOnly, followUpOverdueOnly, t.applications_error_fetch]);
-
-  const filteredApps = useMemo(() => {
-    const q = search.trim().toLowerCase();
-    if (!q) return apps;
-    return apps.filter((a) => {
-      const company = (a.company ?? "").toLowerCase();
-      const role = (a.role ?? "").toLowerCase();
-      return company.includes(q) || role.includes(q);
-    });
-  }, [apps, search]);
+  }, [page, size, sort, statusParam, followUpDueOnly, followUpOverdueOnly, debouncedSearch, t.applications_error_fetch]);
+
+  // O filtro de texto já vem aplicado pelo backend
+  const filteredApps = apps;
   const showFirstApplicationCta =
     !loading && !isRefreshing && !error && total === 0 && !hasAnyApplications;
   const showNoResultsCard =
@@ -1012,45 +996,26 @@ export function ApplicationsPage() {
     }
   }
 
-  async function fetchAllForExport(): Promise<Application[]> {
-    const sizeForExport = 100;
-    let exportPage = 0;
-    let exportTotalPages = 1;
-    const all: Application[] = [];
-
-    while (exportPage < exportTotalPages) {
-      const data = await listApplications({
-        page: exportPage,
-        size: sizeForExport,
-        sort,
-        status: statusParam,
-        followUpDue: followUpDueOnly,
-        followUpOverdue: followUpOverdueOnly,
-      });
-      all.push(...data.content);
-      exportTotalPages = Math.max(data.totalPages, 1);
-      exportPage += 1;
-    }
-
-    const q = search.trim().toLowerCase();
-    if (!q) return all;
-    return all.filter((a) => {
-      const company = (a.company ?? "").toLowerCase();
-      const role = (a.role ?? "").toLowerCase();
-      return company.includes(q) || role.includes(q);
+  function exportCurrentFilters(format: "csv" | "ndjson"): Promise<string> {
+    return exportApplications({
+      format,
+      status: statusParam,
+      followUpDue: followUpDueOnly,
+      followUpOverdue: followUpOverdueOnly,
+      q: search.trim() || undefined,
     });
   }
 
   async function onExportCsv() {
     setIsExporting(true);
     try {
-      const all = await fetchAllForExport();
-      if (all.length === 0) {
+      const csv = await exportCurrentFilters("csv");
+      const rowCount = parseCsv(csv).length - 1;
+      if (rowCount <= 0) {
         pushToast({ type: "info", title: t.applications_export_empty });
         return;
       }
 
-      const csv = toApplicationsCsv(all);
       const blob = new Blob([csv], { type: "text/csv;charset=utf-8;" });
       const url = URL.createObjectURL(blob);
       const anchor = document.createElement("a");
@@ -1061,7 +1026,7 @@ export function ApplicationsPage() {
       document.body.removeChild(anchor);
       URL.revokeObjectURL(url);
 
-      pushToast({ type: "success", title: t.applications_export_success(all.length) });
+      pushToast({ type: "success", title: t.applications_export_success(rowCount) });
     } catch (error: unknown) {
       pushToast({
         type: "error",
@@ -1171,7 +1136,11 @@ export function ApplicationsPage() {
   async function onExportJson() {
     setIsJsonExporting(true);
     try {
-      const all = await fetchAllForExport();
+      const ndjson = await exportCurrentFilters("ndjson");
+      const all = ndjson
+        .split("\n")
+        .filter((line) => line.trim())
+        .map((line) => JSON.parse(line) as Application);
       if (all.length === 0) {
         pushToast({ type: "info", title: t.applications_export_empty });
         return;
@@ -2,12 +2,7 @@ import React, { useEffect, useState } from "react";
 import { Link } from "react-router-dom";
 import { Briefcase, Clock, Plus, TrendingUp, Trophy, XCircle } from "lucide-react";
 import type { Application, ApplicationStatus } from "../lib/types";
-import {
-  fetchDueFollowUps,
-  fetchRecentApplications,
-  fetchStatusCount,
-  fetchTotalCount,
-} from "../lib/apiClient";
+import { fetchDashboard } from "../lib/apiClient";
 import { useTranslation, useUser } from "../context/UserContext";
 
 type Stats = {
@@ -54,17 +49,15 @@ export function DashboardPage() {
     let alive = true;
     async function load() {
       try {
-        const [total, applied, interview, offer, rejected, recentApps, dueApps] = await Promise.all([
-          fetchTotalCount(),
-          fetchStatusCount("APPLIED"),
-          fetchStatusCount("INTERVIEW"),
-          fetchStatusCount("OFFER"),
-          fetchStatusCount("REJECTED"),
-          fetchRecentApplications(5),
-          fetchDueFollowUps(5),
-        ]);
+        const { stats: summary, recent: recentApps, dueFollowUps: dueApps } = await fetchDashboard();
         if (!alive) return;
-        setStats({ total, applied, interview, offer, rejected });
+        setStats({
+          total: summary.total,
+          applied: summary.byStatus.APPLIED,
+          interview: summary.byStatus.INTERVIEW,
+          offer: summary.byStatus.OFFER,
+          rejected: summary.byStatus.REJECTED,
+        });
         setRecent(recentApps);
         setDueFollowUps(dueApps);
       } catch (error: unknown) {
@@ -1,6 +1,5 @@
 import { useEffect, useMemo, useState } from "react";
-import type { Application } from "../lib/types";
-import { fetchAllApplications, fetchStatusCount, fetchTotalCount } from "../lib/apiClient";
+import { fetchApplicationStats } from "../lib/apiClient";
 import { useTranslation, useUser } from "../context/UserContext";
 
 type Stats = {
@@ -23,16 +22,6 @@ const STATUS_CONFIG: {
   { key: "rejected", labelKey: "rejected", bar: "bg-[#ff3b30]", track: "bg-[#ff3b30]/15" },
 ];
 
-function groupByMonth(apps: Application[]): Record<string, number> {
-  const out: Record<string, number> = {};
-  for (const a of apps) {
-    if (!a.appliedDate) continue;
-    const month = a.appliedDate.slice(0, 7);
-    out[month] = (out[month] || 0) + 1;
-  }
-  return out;
-}
-
 function getErrorMessage(error: unknown, fallback: string) {
   if (error instanceof Error && error.message) return error.message;
   return fallback;
@@ -40,7 +29,7 @@ function getErrorMessage(error: unknown, fallback: string) {
 
 export function StatisticsPage() {
   const [stats, setStats] = useState<Stats | null>(null);
-  const [apps, setApps] = useState<Application[]>([]);
+  const [monthlyData, setMonthlyData] = useState<Record<string, number>>({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const t = useTranslation();
@@ -55,17 +44,16 @@ export function StatisticsPage() {
     let alive = true;
     async function load() {
       try {
-        const [total, applied, interview, offer, rejected, allApps] = await Promise.all([
-          fetchTotalCount(),
-          fetchStatusCount("APPLIED"),
-          fetchStatusCount("INTERVIEW"),
-          fetchStatusCount("OFFER"),
-          fetchStatusCount("REJECTED"),
-          fetchAllApplications(),
-        ]);
+        const summary = await fetchApplicationStats();
         if (!alive) return;
-        setStats({ total, applied, interview, offer, rejected });
-        setApps(allApps);
+        setStats({
+          total: summary.total,
+          applied: summary.byStatus.APPLIED,
+          interview: summary.byStatus.INTERVIEW,
+          offer: summary.byStatus.OFFER,
+          rejected: summary.byStatus.REJECTED,
+        });
+        setMonthlyData(summary.byAppliedMonth);
       } catch (error: unknown) {
         if (alive) setError(getErrorMessage(error, t.error_loading));
       } finally {
@@ -104,7 +92,6 @@ export function StatisticsPage() {
     );
   }
 
-  const monthlyData = groupByMonth(apps);
   const sortedMonths = Object.keys(monthlyData).sort();
   const monthlyPoints = sortedMonths.map((month) => {
     const count = monthlyData[month];
@@ -0,0 +1,101 @@
+package com.diego.jobtracker.config;
+
+import com.diego.jobtracker.security.TokenRevocationList;
+import com.diego.jobtracker.security.VerifiedTokenCache;
+import com.diego.jobtracker.service.FollowUpIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Métricas expostas em /actuator/prometheus, na porta de gerenciamento (management.server.port).
+ *
+ * O Actuator já cobre latência por rota (http.server.requests), pool Hikari
+ * (hikaricp.connections.*), estatísticas do Hibernate (hibernate.*, com
+ * hibernate.generate_statistics) e um timer por método de repositório
+ * (spring.data.repository.invocations). Aqui: histograma de latência detalhado só nas rotas
+ * da API que interessam, e os contadores que já existiam nos componentes.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    @Value("${app.metrics.histogram-routes:/applications,/auth}")
+    private List<String> histogramRoutes;
+
+    /**
+     * Histograma completo (percentis via histogram_quantile, agregáveis entre instâncias) só para
+     * as rotas de app.metrics.histogram-routes. As demais ganham poucos buckets fixos: no
+     * Prometheus todas as séries de um nome precisam ser do mesmo tipo (histogram).
+     */
+    @Bean
+    public MeterFilter routeLatencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName())) return config;
+                String uri = id.getTag("uri");
+                boolean detailed = uri != null && histogramRoutes.stream().anyMatch(uri::startsWith);
+                DistributionStatisticConfig histogram = detailed
+                        ? DistributionStatisticConfig.builder()
+                                .percentilesHistogram(true)
+                                .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                                .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                                .build()
+                        : DistributionStatisticConfig.builder()
+                                .serviceLevelObjectives(
+                                        (double) Duration.ofMillis(100).toNanos(),
+                                        (double) Duration.ofSeconds(1).toNanos()
+                                )
+                                .build();
+                return histogram.merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder jwtCacheMetrics(VerifiedTokenCache tokenCache) {
+        return registry -> {
+            FunctionCounter.builder("auth.jwt.cache.requests", tokenCache, VerifiedTokenCache::getHits)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("auth.jwt.cache.requests", tokenCache, VerifiedTokenCache::getMisses)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("auth.jwt.cache.evictions", tokenCache, VerifiedTokenCache::getEvictions)
+                    .register(registry);
+            Gauge.builder("auth.jwt.cache.size", tokenCache, VerifiedTokenCache::size)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder tokenRevocationMetrics(TokenRevocationList revocationList) {
+        return registry -> {
+            Gauge.builder("auth.jwt.revoked", revocationList, TokenRevocationList::size)
+                    .register(registry);
+            FunctionCounter.builder("auth.jwt.revocation.bloom.positives", revocationList,
+                            TokenRevocationList::getBloomPositives)
+                    .register(registry);
+            FunctionCounter.builder("auth.jwt.revocation.bloom.false.positives", revocationList,
+                            TokenRevocationList::getFalsePositives)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder followUpIndexMetrics(FollowUpIndex followUpIndex) {
+        return registry -> Gauge.builder("followups.index.ready", followUpIndex, index -> index.isReady() ? 1 : 0)
+                .register(registry);
+    }
+}
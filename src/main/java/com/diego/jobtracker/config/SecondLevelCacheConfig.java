@@ -0,0 +1,82 @@
+package com.diego.jobtracker.config;
+
+import com.diego.jobtracker.model.CacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Cache de segundo nível do Hibernate via JCache, com Caffeine por baixo.
+ *
+ * As regiões são criadas aqui (e não por arquivo de configuração do Caffeine)
+ * para que tamanho e TTL venham das properties de cada profile. Com
+ * missing_cache_strategy=fail, uma região usada nas entidades sem estar
+ * listada aqui derruba a inicialização. Estatísticas (hits, misses, evictions)
+ * ficam habilitadas em todas as regiões e aparecem via JMX (javax.cache:type=CacheStatistics).
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private record RegionDefaults(long maxSize, Duration ttl) {}
+
+    private static final Map<String, RegionDefaults> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put(CacheRegions.USERS, new RegionDefaults(10_000, Duration.ofMinutes(30)));
+        REGIONS.put(CacheRegions.USERS_BY_EMAIL, new RegionDefaults(10_000, Duration.ofMinutes(30)));
+        REGIONS.put(CacheRegions.APPLICATIONS, new RegionDefaults(50_000, Duration.ofMinutes(10)));
+        REGIONS.put(CacheRegions.QUERY_RESULTS, new RegionDefaults(10_000, Duration.ofMinutes(10)));
+        // Timestamps por tabela: poucas entradas e não podem expirar antes dos resultados
+        REGIONS.put(CacheRegions.UPDATE_TIMESTAMPS, new RegionDefaults(1_000, Duration.ZERO));
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        // URI própria por contexto: o CacheManager padrão do provider é compartilhado por classloader
+        CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("jobtracker-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        Binder binder = Binder.get(environment);
+        REGIONS.forEach((region, defaults) -> {
+            String prefix = "app.cache.regions." + region;
+            long maxSize = binder.bind(prefix + ".max-size", Long.class).orElse(defaults.maxSize());
+            Duration ttl = binder.bind(prefix + ".ttl", Duration.class).orElse(defaults.ttl());
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            if (!ttl.isZero()) {
+                configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(CacheSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(CacheSettings.USE_QUERY_CACHE, true);
+            properties.put(CacheSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
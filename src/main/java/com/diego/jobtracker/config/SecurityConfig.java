@@ -1,18 +1,26 @@
 package com.diego.jobtracker.config;
 
+import com.diego.jobtracker.observability.jfr.JfrEndpoint;
 import com.diego.jobtracker.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -29,10 +37,44 @@ public class SecurityConfig {
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
+    @Value("${app.jfr.operator.username:operator}")
+    private String jfrOperatorUsername;
+
+    @Value("${app.jfr.operator.password:}")
+    private String jfrOperatorPassword;
+
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    /**
+     * Dump JFR: a gravação tem ids e transições de status de todos os usuários, então o login
+     * da API (aberto a qualquer cadastro) não serve. Só HTTP Basic com a credencial de operador
+     * (app.jfr.operator.*); sem senha configurada, o endpoint fica fechado.
+     */
+    @Bean
+    @Order(1)
+    SecurityFilterChain jfrFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.to(JfrEndpoint.class))
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .httpBasic(Customizer.withDefaults())
+            .formLogin(form -> form.disable());
+
+        if (jfrOperatorPassword.isBlank()) {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+        } else {
+            http
+                .userDetailsService(new InMemoryUserDetailsManager(User.withUsername(jfrOperatorUsername)
+                        .password(passwordEncoder.encode(jfrOperatorPassword))
+                        .roles("OPERATOR")
+                        .build()))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("OPERATOR"));
+        }
+        return http.build();
+    }
+
     @Bean
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -40,10 +82,18 @@ public class SecurityConfig {
             .cors(Customizer.withDefaults())
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Dispatch assíncrono (StreamingResponseBody) já foi autorizado na requisição original
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // API
                 .requestMatchers("/health").permitAll()
                 .requestMatchers("/auth/register", "/auth/login", "/auth/logout").permitAll()
 
+                // Actuator (só na porta de gerenciamento): health e prometheus abertos pro scrape;
+                // o dump JFR tem a própria cadeia (jfrFilterChain)
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class))
+                .permitAll()
+
                 // Swagger / OpenAPI
                 .requestMatchers("/v3/api-docs/**").permitAll()
                 .requestMatchers("/swagger-ui/**").permitAll()
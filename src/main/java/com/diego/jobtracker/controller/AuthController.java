@@ -5,8 +5,14 @@ import com.diego.jobtracker.dto.auth.AuthUserResponse;
 import com.diego.jobtracker.dto.auth.LoginRequest;
 import com.diego.jobtracker.dto.auth.RegisterRequest;
 import com.diego.jobtracker.dto.auth.UpdateMeRequest;
+import com.diego.jobtracker.security.AuthenticatedUser;
+import com.diego.jobtracker.security.JwtAuthenticationFilter;
 import com.diego.jobtracker.security.JwtService;
+import com.diego.jobtracker.security.LoginRateLimiter;
+import com.diego.jobtracker.security.TokenClaims;
+import com.diego.jobtracker.security.TokenRevocationList;
 import com.diego.jobtracker.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +34,8 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtService jwtService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenRevocationList revocationList;
 
     @Value("${app.auth.cookie.name:jt_session}")
     private String authCookieName;
@@ -44,41 +52,56 @@ public class AuthController {
     @Value("${app.auth.cookie.domain:}")
     private String authCookieDomain;
 
-    public AuthController(AuthService authService, JwtService jwtService) {
+    public AuthController(
+            AuthService authService,
+            JwtService jwtService,
+            LoginRateLimiter loginRateLimiter,
+            TokenRevocationList revocationList
+    ) {
         this.authService = authService;
         this.jwtService = jwtService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.revocationList = revocationList;
     }
 
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
     public AuthResponse register(
             @Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
+        loginRateLimiter.acquire(httpRequest.getRemoteAddr(), request.email());
         AuthResponse authResponse = authService.register(request);
-        writeSessionCookie(response, authResponse.user().email());
+        writeSessionCookie(response, authResponse.user());
         return authResponse;
     }
 
     @PostMapping("/login")
     public AuthResponse login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response
     ) {
+        loginRateLimiter.acquire(httpRequest.getRemoteAddr(), request.email());
         AuthResponse authResponse = authService.login(request);
-        writeSessionCookie(response, authResponse.user().email());
+        writeSessionCookie(response, authResponse.user());
         return authResponse;
     }
 
     @PostMapping("/logout")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void logout(HttpServletResponse response) {
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        // revoga o token da sessão (até o exp dele): uma cópia do cookie deixa de valer
+        if (request.getAttribute(JwtAuthenticationFilter.TOKEN_CLAIMS_ATTRIBUTE) instanceof TokenClaims claims) {
+            revocationList.revoke(claims);
+        }
         clearSessionCookie(response);
     }
 
     @GetMapping("/me")
     public AuthUserResponse me(Authentication authentication) {
-        return authService.me(authentication.getName());
+        return authService.me(AuthenticatedUser.from(authentication).id());
     }
 
     @PatchMapping("/me")
@@ -86,11 +109,11 @@ public class AuthController {
             Authentication authentication,
             @RequestBody UpdateMeRequest request
     ) {
-        return authService.updateMe(authentication.getName(), request);
+        return authService.updateMe(AuthenticatedUser.from(authentication).id(), request);
     }
 
-    private void writeSessionCookie(HttpServletResponse response, String email) {
-        String token = jwtService.generateToken(email);
+    private void writeSessionCookie(HttpServletResponse response, AuthUserResponse user) {
+        String token = jwtService.generateToken(user.id(), user.email());
         long maxAgeSeconds = Math.max(1L, jwtService.getExpirationMs() / 1000L);
 
         ResponseCookie.ResponseCookieBuilder builder = ResponseCookie.from(authCookieName, token)
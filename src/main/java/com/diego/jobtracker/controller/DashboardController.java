@@ -0,0 +1,59 @@
+package com.diego.jobtracker.controller;
+
+import com.diego.jobtracker.dto.DashboardResponse;
+import com.diego.jobtracker.security.AuthenticatedUser;
+import com.diego.jobtracker.service.DashboardService;
+import com.diego.jobtracker.service.UserDataVersions;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@RestController
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final UserDataVersions dataVersions;
+
+    public DashboardController(DashboardService dashboardService, UserDataVersions dataVersions) {
+        this.dashboardService = dashboardService;
+        this.dataVersions = dataVersions;
+    }
+
+    /**
+     * Estatísticas + últimas candidaturas + follow-ups do dia em uma chamada
+     * GET /dashboard
+     * Tempo de cada seção no header Server-Timing (ex: stats;dur=3.2, recent;dur=1.8, ...).
+     * Com If-None-Match igual ao ETag da versão atual do usuário, 304 sem tocar no banco.
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardResponse> dashboard(Authentication authentication, ServletWebRequest webRequest) {
+        AuthenticatedUser currentUser = AuthenticatedUser.from(authentication);
+        LocalDate today = LocalDate.now();
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        webRequest.getResponse().addHeader(HttpHeaders.VARY, "Cookie, Authorization");
+        if (webRequest.checkNotModified(dataVersions.etag(currentUser.id(), today))) return null;
+
+        long start = System.nanoTime();
+        DashboardService.Result result = dashboardService.load(currentUser.id(), today);
+        double totalMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        String serverTiming = result.timings().entrySet().stream()
+                .map(entry -> timing(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(", "))
+                + ", " + timing("total", totalMillis);
+        return ResponseEntity.ok()
+                .header("Server-Timing", serverTiming)
+                .body(result.body());
+    }
+
+    private static String timing(String name, double millis) {
+        return String.format(Locale.ROOT, "%s;dur=%.1f", name, millis);
+    }
+}
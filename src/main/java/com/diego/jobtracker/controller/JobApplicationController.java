@@ -1,45 +1,93 @@
 // src/main/java/com/diego/jobtracker/controller/JobApplicationController.java
 package com.diego.jobtracker.controller;
 
+import com.diego.jobtracker.dto.ApplicationChangeEvent;
+import com.diego.jobtracker.dto.ApplicationChangesResponse;
+import com.diego.jobtracker.dto.ApplicationFilterParams;
+import com.diego.jobtracker.dto.ApplicationStatsResponse;
+import com.diego.jobtracker.dto.BulkImportSummary;
+import com.diego.jobtracker.dto.BulkMutationRequest;
+import com.diego.jobtracker.dto.BulkMutationResponse;
+import com.diego.jobtracker.dto.FollowUpOverview;
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.dto.SliceResponse;
 import com.diego.jobtracker.dto.StatusHistoryResponse;
 import com.diego.jobtracker.dto.UpsertJobApplicationRequest;
 import com.diego.jobtracker.dto.UpdateJobApplicationRequest;
-import com.diego.jobtracker.model.ApplicationPriority;
-import com.diego.jobtracker.model.ApplicationStatus;
 import com.diego.jobtracker.model.JobApplication;
-import com.diego.jobtracker.model.StatusHistory;
-import com.diego.jobtracker.model.User;
-import com.diego.jobtracker.repository.JobApplicationRepository;
-import com.diego.jobtracker.repository.StatusHistoryRepository;
-import com.diego.jobtracker.repository.UserRepository;
+import com.diego.jobtracker.repository.ChangeToken;
+import com.diego.jobtracker.repository.JobApplicationFilter;
+import com.diego.jobtracker.repository.KeysetCursor;
+import com.diego.jobtracker.repository.KeysetOrder;
+import com.diego.jobtracker.security.AuthenticatedUser;
+import com.diego.jobtracker.service.ApplicationEventHub;
+import com.diego.jobtracker.service.FileFormat;
+import com.diego.jobtracker.service.JobApplicationBulkService;
+import com.diego.jobtracker.service.JobApplicationExportService;
+import com.diego.jobtracker.service.JobApplicationImportService;
+import com.diego.jobtracker.service.JobApplicationService;
+import com.diego.jobtracker.service.UserDataVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/applications")
 public class JobApplicationController {
 
-    private final JobApplicationRepository repository;
-    private final StatusHistoryRepository statusHistoryRepository;
-    private final UserRepository userRepository;
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+
+    private final JobApplicationService applicationService;
+    private final JobApplicationImportService importService;
+    private final JobApplicationExportService exportService;
+    private final JobApplicationBulkService bulkService;
+    private final UserDataVersions dataVersions;
+    private final ApplicationEventHub eventHub;
+    private final ObjectMapper objectMapper;
 
     public JobApplicationController(
-            JobApplicationRepository repository,
-            StatusHistoryRepository statusHistoryRepository,
-            UserRepository userRepository
+            JobApplicationService applicationService,
+            JobApplicationImportService importService,
+            JobApplicationExportService exportService,
+            JobApplicationBulkService bulkService,
+            UserDataVersions dataVersions,
+            ApplicationEventHub eventHub,
+            ObjectMapper objectMapper
     ) {
-        this.repository = repository;
-        this.statusHistoryRepository = statusHistoryRepository;
-        this.userRepository = userRepository;
+        this.applicationService = applicationService;
+        this.importService = importService;
+        this.exportService = exportService;
+        this.bulkService = bulkService;
+        this.dataVersions = dataVersions;
+        this.eventHub = eventHub;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/ping")
@@ -48,50 +96,161 @@ public class JobApplicationController {
     }
 
     /**
-     * Lista com paginação (e filtro opcional por status)
+     * Lista com paginação e filtros opcionais (ver ApplicationFilterParams)
      * Ex:
      *  /applications?page=0&size=5&sort=appliedDate,desc
-     *  /applications?status=APPLIED&page=0&size=5
+     *  /applications?status=APPLIED,INTERVIEW&priority=HIGH&page=0&size=5
+     *  /applications?appliedFrom=2024-01-01&appliedTo=2024-03-31&company=nu
+     *  /applications?q=engenheiro%20sao%20paulo  (busca textual, ordenada por relevância)
      */
     @SuppressWarnings("null")
     @GetMapping
     public Page<JobApplication> list(
-            @RequestParam(name = "status", required = false) ApplicationStatus status,
-            @RequestParam(name = "followUpDue", required = false, defaultValue = "false") boolean followUpDue,
-            @RequestParam(name = "followUpOverdue", required = false, defaultValue = "false") boolean followUpOverdue,
+            @RequestParam(name = "q", required = false) String q,
+            ApplicationFilterParams params,
             Authentication authentication,
+            ServletWebRequest webRequest,
             @PageableDefault(size = 10) Pageable pageable
     ) {
-        User currentUser = requireCurrentUser(authentication);
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
         LocalDate today = LocalDate.now();
+        if (notModified(webRequest, currentUser, today)) return null;
+        return applicationService.list(params.toFilter(currentUser.id(), today), q, pageable);
+    }
 
-        if (followUpOverdue) {
-            if (status != null) {
-                return repository.findByUserIdAndStatusAndFollowUpDateLessThan(
-                        currentUser.getId(),
-                        status,
-                        today,
-                        pageable
-                );
-            }
-            return repository.findByUserIdAndFollowUpDateLessThan(currentUser.getId(), today, pageable);
-        }
+    /**
+     * Mesma listagem projetada em JobApplicationSummary (sem notes): para listas/cards
+     * que não mostram o texto completo. Aceita os mesmos filtros, q e paginação.
+     * Ex:
+     *  /applications?view=summary&page=0&size=20&sort=appliedDate,desc
+     *  /applications?view=summary&q=nubank
+     */
+    @SuppressWarnings("null")
+    @GetMapping(params = "view=summary")
+    public Page<JobApplicationSummary> listSummaries(
+            @RequestParam(name = "q", required = false) String q,
+            ApplicationFilterParams params,
+            Authentication authentication,
+            ServletWebRequest webRequest,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        LocalDate today = LocalDate.now();
+        if (notModified(webRequest, currentUser, today)) return null;
+        return applicationService.listSummaries(params.toFilter(currentUser.id(), today), q, pageable);
+    }
 
-        if (followUpDue) {
-            if (status != null) {
-                return repository.findByUserIdAndStatusAndFollowUpDateLessThanEqual(
-                        currentUser.getId(),
-                        status,
-                        today,
-                        pageable
-                );
-            }
-            return repository.findByUserIdAndFollowUpDateLessThanEqual(currentUser.getId(), today, pageable);
-        }
-        if (status != null) {
-            return repository.findByUserIdAndStatus(currentUser.getId(), status, pageable);
-        }
-        return repository.findByUserId(currentUser.getId(), pageable);
+    /**
+     * Listagem por cursor (keyset): sem count e sem OFFSET, mesmos filtros da listagem paginada.
+     * Ordenações aceitas: appliedDate,desc (padrão) e followUpDate,asc.
+     * Ex:
+     *  /applications?cursor=&size=20                  (primeira página)
+     *  /applications?cursor=<next>&size=20            (próximas, usando o "next" da resposta)
+     *  /applications?cursor=&sort=followUpDate,asc&followUpDue=true
+     */
+    @GetMapping(params = "cursor")
+    public SliceResponse<JobApplication> listByCursor(
+            @RequestParam(name = "cursor") String cursor,
+            ApplicationFilterParams params,
+            @RequestParam(name = "size", required = false, defaultValue = "10") int size,
+            Sort sort,
+            Authentication authentication,
+            ServletWebRequest webRequest
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        LocalDate today = LocalDate.now();
+        if (notModified(webRequest, currentUser, today)) return null;
+        requireCursorPageSize(size);
+        KeysetOrder order = keysetOrder(sort);
+        KeysetCursor after = decodeCursor(cursor, order);
+
+        JobApplicationFilter filter = params.toFilter(currentUser.id(), today);
+        return SliceResponse.of(
+                applicationService.listByCursor(filter, order, after, size),
+                last -> order.cursorAfter(last).encode()
+        );
+    }
+
+    /**
+     * Listagem por cursor projetada em JobApplicationSummary
+     * Ex: /applications?view=summary&cursor=&size=50
+     */
+    @GetMapping(params = {"cursor", "view=summary"})
+    public SliceResponse<JobApplicationSummary> listSummariesByCursor(
+            @RequestParam(name = "cursor") String cursor,
+            ApplicationFilterParams params,
+            @RequestParam(name = "size", required = false, defaultValue = "10") int size,
+            Sort sort,
+            Authentication authentication,
+            ServletWebRequest webRequest
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        LocalDate today = LocalDate.now();
+        if (notModified(webRequest, currentUser, today)) return null;
+        requireCursorPageSize(size);
+        KeysetOrder order = keysetOrder(sort);
+        KeysetCursor after = decodeCursor(cursor, order);
+
+        JobApplicationFilter filter = params.toFilter(currentUser.id(), today);
+        return SliceResponse.of(
+                applicationService.listSummariesByCursor(filter, order, after, size),
+                last -> order.cursorAfter(last).encode()
+        );
+    }
+
+    /**
+     * Contagens para Dashboard/Estatísticas em uma única consulta agrupada
+     * GET /applications/stats
+     */
+    @GetMapping("/stats")
+    public ApplicationStatsResponse stats(Authentication authentication, ServletWebRequest webRequest) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        LocalDate today = LocalDate.now();
+        if (notModified(webRequest, currentUser, today)) return null;
+        return applicationService.stats(currentUser.id(), today);
+    }
+
+    /**
+     * Follow-ups para badges/listas: contagens (até hoje e vencidos) + primeiros itens,
+     * do índice em memória (FollowUpIndex)
+     * Ex:
+     *  /applications/follow-ups?size=5                 (vencendo até hoje)
+     *  /applications/follow-ups?overdue=true&size=8    (só vencidos)
+     */
+    @GetMapping("/follow-ups")
+    public FollowUpOverview followUps(
+            @RequestParam(name = "overdue", required = false, defaultValue = "false") boolean overdue,
+            @RequestParam(name = "size", required = false, defaultValue = "5") int size,
+            Authentication authentication,
+            ServletWebRequest webRequest
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        LocalDate today = LocalDate.now();
+        if (notModified(webRequest, currentUser, today)) return null;
+        requireCursorPageSize(size);
+        return applicationService.followUps(currentUser.id(), today, overdue, size);
+    }
+
+    /**
+     * Sincronização incremental: candidaturas criadas/alteradas (upserts, em JobApplicationSummary)
+     * e ids removidos desde o token da resposta anterior.
+     * Ex:
+     *  /applications/changes                  (carga inicial: tudo, em páginas de size)
+     *  /applications/changes?since=<next>     (só o que mudou)
+     * Com hasMore=true, chamar de novo com o next. 410 quando o token passou da retenção
+     * das remoções: recarregar do zero (sem since).
+     */
+    @GetMapping("/changes")
+    public ApplicationChangesResponse changes(
+            @RequestParam(name = "since", required = false) String since,
+            @RequestParam(name = "size", required = false, defaultValue = "200") int size,
+            Authentication authentication,
+            ServletWebRequest webRequest
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        if (notModified(webRequest, currentUser, LocalDate.now())) return null;
+        requireCursorPageSize(size);
+        return applicationService.changes(currentUser.id(), decodeChangeToken(since), size, LocalDateTime.now());
     }
 
     @PostMapping
@@ -100,31 +259,134 @@ public class JobApplicationController {
             @Valid @RequestBody UpsertJobApplicationRequest body,
             Authentication authentication
     ) {
-        User currentUser = requireCurrentUser(authentication);
-        JobApplication app = new JobApplication();
-        app.setCompany(body.company().trim());
-        app.setRole(body.role().trim());
-        app.setStatus(body.status());
-        app.setPriority(body.priority() == null ? ApplicationPriority.MEDIUM : body.priority());
-        app.setAppliedDate(body.appliedDate());
-        app.setFollowUpDate(body.followUpDate());
-        app.setNotes(body.notes());
-        app.setJobUrl(body.jobUrl());
-        app.setSalary(body.salary());
-        app.setUser(currentUser);
-        JobApplication saved = repository.save(app);
-        recordStatusChange(currentUser, saved, null, saved.getStatus());
-        return saved;
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        return writing(
+                currentUser,
+                () -> applicationService.create(currentUser.id(), body),
+                created -> List.of(ApplicationChangeEvent.created(created))
+        );
+    }
+
+    /**
+     * Import em massa via streaming (CSV com cabeçalho ou NDJSON)
+     * POST /applications/bulk  (Content-Type: text/csv | application/x-ndjson)
+     * Resposta em NDJSON: uma linha por registro ({row, accepted, id | errors})
+     * e o resumo ({accepted, rejected}) na última linha.
+     */
+    @PostMapping(
+            value = "/bulk",
+            consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void bulkImport(
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        FileFormat format =
+                MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                        ? FileFormat.NDJSON
+                        : FileFormat.CSV;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        dataVersions.bump(currentUser.id());
+        try {
+            BulkImportSummary summary = importService.importApplications(
+                    currentUser.id(),
+                    format,
+                    request.getInputStream(),
+                    result -> writeNdjsonLine(out, result)
+            );
+            writeNdjsonLine(out, summary);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            dataVersions.bump(currentUser.id());
+            // um evento só para o import inteiro: os clientes recarregam a lista
+            eventHub.publish(currentUser.id(), List.of(ApplicationChangeEvent.resync()));
+        }
+        out.flush();
+    }
+
+    /**
+     * Alteração em massa (multi-seleção / kanban) em uma transação
+     * PATCH /applications/bulk
+     * Ex:
+     *  {"ids":[1,2,3],"operation":"SET_STATUS","status":"INTERVIEW"}
+     *  {"ids":[4,5],"operation":"SET_FOLLOW_UP_DATE","followUpDate":"2024-03-01"}
+     *  {"ids":[6],"operation":"DELETE"}
+     */
+    @PatchMapping("/bulk")
+    public BulkMutationResponse bulkUpdate(
+            @Valid @RequestBody BulkMutationRequest body,
+            Authentication authentication
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        return writing(
+                currentUser,
+                () -> bulkService.apply(currentUser.id(), body),
+                result -> bulkEvents(body, result)
+        );
+    }
+
+    /**
+     * Export em streaming com os mesmos filtros da listagem
+     * Ex:
+     *  /applications/export?format=csv
+     *  /applications/export?format=ndjson&status=INTERVIEW&followUpDue=true
+     *  /applications/export?format=csv&q=nubank     (mesma busca da listagem)
+     * Compacta com gzip quando o cliente envia Accept-Encoding: gzip.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", required = false, defaultValue = "csv") String format,
+            @RequestParam(name = "q", required = false) String q,
+            ApplicationFilterParams params,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Authentication authentication
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        FileFormat fileFormat = FileFormat.fromParam(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid format"));
+
+        LocalDate today = LocalDate.now();
+        JobApplicationFilter filter = params.toFilter(currentUser.id(), today);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                exportService.export(filter, q, fileFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                exportService.export(filter, q, fileFormat, out);
+            }
+        };
+
+        String filename = "job-tracker-applications-" + today + (fileFormat == FileFormat.CSV ? ".csv" : ".ndjson");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(fileFormat == FileFormat.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping("/{id}")
     public JobApplication getById(
             @PathVariable(name = "id") long id,
-            Authentication authentication
+            Authentication authentication,
+            ServletWebRequest webRequest
     ) {
-        User currentUser = requireCurrentUser(authentication);
-        return repository.findByIdAndUserId(id, currentUser.getId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        if (notModified(webRequest, currentUser, LocalDate.now())) return null;
+        return applicationService.get(currentUser.id(), id);
     }
 
     @PatchMapping("/{id}/status")
@@ -133,18 +395,12 @@ public class JobApplicationController {
             Authentication authentication,
             @Valid @RequestBody UpdateJobApplicationRequest body
     ) {
-        User currentUser = requireCurrentUser(authentication);
-        JobApplication app = repository.findByIdAndUserId(id, currentUser.getId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
-
-        ApplicationStatus previousStatus = app.getStatus();
-        if (previousStatus == body.status()) {
-            return app;
-        }
-        app.setStatus(body.status());
-        JobApplication saved = repository.save(app);
-        recordStatusChange(currentUser, saved, previousStatus, saved.getStatus());
-        return saved;
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        return writing(
+                currentUser,
+                () -> applicationService.updateStatus(currentUser.id(), id, body.status()),
+                updated -> List.of(ApplicationChangeEvent.statusChanged(updated.getId(), updated.getStatus()))
+        );
     }
 
     /**
@@ -157,42 +413,23 @@ public class JobApplicationController {
             Authentication authentication,
             @Valid @RequestBody UpsertJobApplicationRequest body
     ) {
-        User currentUser = requireCurrentUser(authentication);
-        JobApplication app = repository.findByIdAndUserId(id, currentUser.getId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found"));
-
-        ApplicationStatus previousStatus = app.getStatus();
-        app.setCompany(body.company().trim());
-        app.setRole(body.role().trim());
-        app.setStatus(body.status());
-        app.setPriority(body.priority() == null ? ApplicationPriority.MEDIUM : body.priority());
-        app.setAppliedDate(body.appliedDate());
-        app.setFollowUpDate(body.followUpDate());
-        app.setNotes(body.notes());
-        app.setJobUrl(body.jobUrl());
-        app.setSalary(body.salary());
-        JobApplication saved = repository.save(app);
-        if (previousStatus != saved.getStatus()) {
-            recordStatusChange(currentUser, saved, previousStatus, saved.getStatus());
-        }
-        return saved;
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        return writing(
+                currentUser,
+                () -> applicationService.update(currentUser.id(), id, body),
+                updated -> List.of(ApplicationChangeEvent.updated(updated))
+        );
     }
 
     @GetMapping("/{id}/history")
     public List<StatusHistoryResponse> history(
             @PathVariable(name = "id") long id,
-            Authentication authentication
+            Authentication authentication,
+            ServletWebRequest webRequest
     ) {
-        User currentUser = requireCurrentUser(authentication);
-        if (!repository.existsByIdAndUserId(id, currentUser.getId())) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
-        }
-
-        return statusHistoryRepository
-                .findByApplicationIdAndUserIdOrderByChangedAtDesc(id, currentUser.getId())
-                .stream()
-                .map(StatusHistoryResponse::fromEntity)
-                .toList();
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        if (notModified(webRequest, currentUser, LocalDate.now())) return null;
+        return applicationService.history(currentUser.id(), id);
     }
 
     @DeleteMapping("/{id}")
@@ -201,33 +438,119 @@ public class JobApplicationController {
             @PathVariable(name = "id") long id,
             Authentication authentication
     ) {
-        User currentUser = requireCurrentUser(authentication);
-        if (!repository.existsByIdAndUserId(id, currentUser.getId())) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        writing(
+                currentUser,
+                () -> {
+                    applicationService.delete(currentUser.id(), id);
+                    return null;
+                },
+                ignored -> List.of(ApplicationChangeEvent.deleted(id))
+        );
+    }
+
+    /**
+     * Stream SSE das alterações do usuário (created, updated, status-changed, deleted, resync)
+     * GET /applications/events  (Accept: text/event-stream)
+     * Ao reconectar o EventSource manda Last-Event-ID e recebe só o que perdeu.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            Authentication authentication,
+            HttpServletResponse response
+    ) {
+        AuthenticatedUser currentUser = requireCurrentUser(authentication);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // proxies (nginx) não devem segurar os eventos em buffer
+        response.setHeader("X-Accel-Buffering", "no");
+        return eventHub.subscribe(currentUser.id(), lastEventId);
+    }
+
+    private AuthenticatedUser requireCurrentUser(Authentication authentication) {
+        return AuthenticatedUser.from(authentication);
+    }
+
+    /**
+     * ETag fraco da versão dos dados do usuário; com If-None-Match igual
+     * responde 304 antes de qualquer consulta ao banco.
+     */
+    private boolean notModified(ServletWebRequest webRequest, AuthenticatedUser user, LocalDate today) {
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        // a resposta depende de quem está logado (cookie de sessão)
+        webRequest.getResponse().addHeader(HttpHeaders.VARY, "Cookie, Authorization");
+        return webRequest.checkNotModified(dataVersions.etag(user.id(), today));
+    }
+
+    /**
+     * Toda escrita incrementa a versão antes e depois do commit: uma leitura
+     * concorrente nunca fica com o dado antigo marcado com a versão final.
+     * Os eventos SSE saem só depois que o service retornou (transação confirmada).
+     */
+    private <T> T writing(
+            AuthenticatedUser user,
+            Supplier<T> write,
+            Function<T, List<ApplicationChangeEvent>> events
+    ) {
+        dataVersions.bump(user.id());
+        T result;
+        try {
+            result = write.get();
+        } finally {
+            dataVersions.bump(user.id());
         }
-        repository.deleteById(id);
+        eventHub.publish(user.id(), events.apply(result));
+        return result;
+    }
+
+    private static List<ApplicationChangeEvent> bulkEvents(BulkMutationRequest body, BulkMutationResponse result) {
+        return result.affectedIds().stream()
+                .map(id -> switch (body.operation()) {
+                    case SET_STATUS -> ApplicationChangeEvent.statusChanged(id, body.status());
+                    case SET_PRIORITY, SET_FOLLOW_UP_DATE -> ApplicationChangeEvent.updated(id);
+                    case DELETE -> ApplicationChangeEvent.deleted(id);
+                })
+                .toList();
     }
 
-    private User requireCurrentUser(Authentication authentication) {
-        if (authentication == null || authentication.getName() == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+    private static void requireCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
         }
+    }
 
-        return userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized"));
+    private static KeysetOrder keysetOrder(Sort sort) {
+        try {
+            return KeysetOrder.fromSort(sort);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
     }
 
-    private void recordStatusChange(
-            User user,
-            JobApplication application,
-            ApplicationStatus fromStatus,
-            ApplicationStatus toStatus
-    ) {
-        StatusHistory history = new StatusHistory();
-        history.setUser(user);
-        history.setApplication(application);
-        history.setFromStatus(fromStatus);
-        history.setToStatus(toStatus);
-        statusHistoryRepository.save(history);
+    private static KeysetCursor decodeCursor(String cursor, KeysetOrder order) {
+        if (cursor.isBlank()) return null;
+        try {
+            return KeysetCursor.decode(cursor, order);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    private static ChangeToken decodeChangeToken(String since) {
+        if (since == null || since.isBlank()) return null;
+        try {
+            return ChangeToken.decode(since);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    private void writeNdjsonLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 }
@@ -0,0 +1,61 @@
+package com.diego.jobtracker.dto;
+
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Evento compacto do stream GET /applications/events: só o tipo, o id e o status.
+ * O cliente decide se recarrega a lista/detalhe. RESYNC = "recarregue tudo"
+ * (import em massa ou eventos perdidos que não estão mais no buffer).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApplicationChangeEvent(
+        Type type,
+        Long id,
+        ApplicationStatus status
+) {
+    public enum Type {
+        CREATED("created"),
+        UPDATED("updated"),
+        STATUS_CHANGED("status-changed"),
+        DELETED("deleted"),
+        RESYNC("resync");
+
+        private final String value;
+
+        Type(String value) {
+            this.value = value;
+        }
+
+        @JsonValue
+        public String value() {
+            return value;
+        }
+    }
+
+    public static ApplicationChangeEvent created(JobApplication app) {
+        return new ApplicationChangeEvent(Type.CREATED, app.getId(), app.getStatus());
+    }
+
+    public static ApplicationChangeEvent updated(JobApplication app) {
+        return new ApplicationChangeEvent(Type.UPDATED, app.getId(), app.getStatus());
+    }
+
+    public static ApplicationChangeEvent updated(Long id) {
+        return new ApplicationChangeEvent(Type.UPDATED, id, null);
+    }
+
+    public static ApplicationChangeEvent statusChanged(Long id, ApplicationStatus status) {
+        return new ApplicationChangeEvent(Type.STATUS_CHANGED, id, status);
+    }
+
+    public static ApplicationChangeEvent deleted(Long id) {
+        return new ApplicationChangeEvent(Type.DELETED, id, null);
+    }
+
+    public static ApplicationChangeEvent resync() {
+        return new ApplicationChangeEvent(Type.RESYNC, null, null);
+    }
+}
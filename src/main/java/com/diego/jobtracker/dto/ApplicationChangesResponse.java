@@ -0,0 +1,18 @@
+package com.diego.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * Resposta de GET /applications/changes.
+ *
+ * @param upserts candidaturas criadas/alteradas (substituem a cópia local pelo id)
+ * @param deleted ids removidos
+ * @param next    token para a próxima chamada (?since=)
+ * @param hasMore true = ainda há alterações; chamar de novo com next antes de considerar sincronizado
+ */
+public record ApplicationChangesResponse(
+        List<JobApplicationSummary> upserts,
+        List<Long> deleted,
+        String next,
+        boolean hasMore
+) {}
@@ -0,0 +1,52 @@
+package com.diego.jobtracker.dto;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.repository.JobApplicationFilter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filtros aceitos por GET /applications, /applications?cursor= e /applications/export.
+ * status e priority aceitam vários valores (status=APPLIED&status=INTERVIEW ou status=APPLIED,INTERVIEW).
+ * followUpDue/followUpOverdue são atalhos para followUpTo = hoje / ontem.
+ */
+public record ApplicationFilterParams(
+        List<ApplicationStatus> status,
+        List<ApplicationPriority> priority,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate followUpFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate followUpTo,
+        String company,
+        Boolean followUpDue,
+        Boolean followUpOverdue
+) {
+    public JobApplicationFilter toFilter(Long userId, LocalDate today) {
+        LocalDate followUpLimit = followUpTo;
+        if (Boolean.TRUE.equals(followUpOverdue)) {
+            followUpLimit = earliest(followUpLimit, today.minusDays(1));
+        } else if (Boolean.TRUE.equals(followUpDue)) {
+            followUpLimit = earliest(followUpLimit, today);
+        }
+
+        return new JobApplicationFilter(
+                userId,
+                status == null ? Set.of() : Set.copyOf(status),
+                priority == null ? Set.of() : Set.copyOf(priority),
+                appliedFrom,
+                appliedTo,
+                followUpFrom,
+                followUpLimit,
+                company
+        );
+    }
+
+    private static LocalDate earliest(LocalDate a, LocalDate b) {
+        if (a == null) return b;
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,48 @@
+package com.diego.jobtracker.dto;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.repository.ApplicationStatsBucket;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record ApplicationStatsResponse(
+        long total,
+        Map<ApplicationStatus, Long> byStatus,
+        Map<ApplicationPriority, Long> byPriority,
+        Map<String, Long> byAppliedMonth,
+        long followUpDue,
+        long followUpOverdue
+) {
+    public static ApplicationStatsResponse fromBuckets(List<ApplicationStatsBucket> buckets) {
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) byStatus.put(status, 0L);
+
+        Map<ApplicationPriority, Long> byPriority = new EnumMap<>(ApplicationPriority.class);
+        for (ApplicationPriority priority : ApplicationPriority.values()) byPriority.put(priority, 0L);
+
+        // chave "yyyy-MM"; candidaturas sem appliedDate ficam fora desse agrupamento
+        Map<String, Long> byAppliedMonth = new TreeMap<>();
+        long total = 0;
+        long followUpDue = 0;
+        long followUpOverdue = 0;
+
+        for (ApplicationStatsBucket bucket : buckets) {
+            long count = bucket.total();
+            total += count;
+            byStatus.merge(bucket.status(), count, Long::sum);
+            byPriority.merge(bucket.priority(), count, Long::sum);
+            if (bucket.appliedYear() != null && bucket.appliedMonth() != null) {
+                String month = String.format("%04d-%02d", bucket.appliedYear(), bucket.appliedMonth());
+                byAppliedMonth.merge(month, count, Long::sum);
+            }
+            followUpDue += bucket.followUpDue() == null ? 0 : bucket.followUpDue();
+            followUpOverdue += bucket.followUpOverdue() == null ? 0 : bucket.followUpOverdue();
+        }
+
+        return new ApplicationStatsResponse(total, byStatus, byPriority, byAppliedMonth, followUpDue, followUpOverdue);
+    }
+}
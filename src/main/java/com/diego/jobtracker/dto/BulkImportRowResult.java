@@ -0,0 +1,21 @@
+package com.diego.jobtracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkImportRowResult(
+        long row,
+        boolean accepted,
+        Long id,
+        Map<String, String> errors
+) {
+    public static BulkImportRowResult accepted(long row, Long id) {
+        return new BulkImportRowResult(row, true, id, null);
+    }
+
+    public static BulkImportRowResult rejected(long row, Map<String, String> errors) {
+        return new BulkImportRowResult(row, false, null, errors);
+    }
+}
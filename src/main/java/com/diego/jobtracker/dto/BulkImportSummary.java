@@ -0,0 +1,6 @@
+package com.diego.jobtracker.dto;
+
+public record BulkImportSummary(
+        long accepted,
+        long rejected
+) {}
@@ -0,0 +1,35 @@
+package com.diego.jobtracker.dto;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PATCH /applications/bulk: uma operação aplicada a várias candidaturas.
+ * Só o campo da operação escolhida é usado (status, priority ou followUpDate;
+ * followUpDate null limpa a data).
+ */
+public record BulkMutationRequest(
+        @NotEmpty(message = "ids is required")
+        @Size(max = 500, message = "ids must have at most 500 items")
+        List<@NotNull Long> ids,
+
+        @NotNull(message = "operation is required")
+        Operation operation,
+
+        ApplicationStatus status,
+        ApplicationPriority priority,
+        LocalDate followUpDate
+) {
+    public enum Operation {
+        SET_STATUS,
+        SET_PRIORITY,
+        SET_FOLLOW_UP_DATE,
+        DELETE
+    }
+}
@@ -0,0 +1,13 @@
+package com.diego.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * @param affectedIds candidaturas do usuário efetivamente alteradas/removidas
+ *                    (ids de outros usuários, inexistentes ou que já tinham o status, a prioridade
+ *                    ou o follow-up pedido ficam de fora)
+ */
+public record BulkMutationResponse(
+        BulkMutationRequest.Operation operation,
+        List<Long> affectedIds
+) {}
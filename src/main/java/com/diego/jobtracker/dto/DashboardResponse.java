@@ -0,0 +1,15 @@
+package com.diego.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * GET /dashboard: tudo que a DashboardPage mostra, em um documento só.
+ *
+ * @param recent       últimas candidaturas (appliedDate desc)
+ * @param dueFollowUps follow-ups vencendo até hoje (followUpDate asc)
+ */
+public record DashboardResponse(
+        ApplicationStatsResponse stats,
+        List<JobApplicationSummary> recent,
+        List<JobApplicationSummary> dueFollowUps
+) {}
@@ -0,0 +1,16 @@
+package com.diego.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * GET /applications/follow-ups: contagens para badges + primeiros itens.
+ *
+ * @param due     follow-ups até hoje (inclusive)
+ * @param overdue follow-ups antes de hoje
+ * @param items   primeiros vencidos (followUpDate asc)
+ */
+public record FollowUpOverview(
+        long due,
+        long overdue,
+        List<JobApplicationSummary> items
+) {}
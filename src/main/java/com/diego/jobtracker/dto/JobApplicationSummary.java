@@ -0,0 +1,26 @@
+package com.diego.jobtracker.dto;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Linha da listagem (?view=summary): só as colunas que um card/lista usa.
+ * Sem notes — o texto completo vem de GET /applications/{id}.
+ * Montado direto na consulta (constructor expression), sem hidratar a entidade.
+ */
+public record JobApplicationSummary(
+        Long id,
+        String company,
+        String role,
+        ApplicationStatus status,
+        ApplicationPriority priority,
+        LocalDate appliedDate,
+        LocalDate followUpDate,
+        String jobUrl,
+        String salary,
+        LocalDateTime updatedAt
+) {
+}
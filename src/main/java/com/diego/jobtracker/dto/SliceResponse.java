@@ -0,0 +1,26 @@
+package com.diego.jobtracker.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página da listagem por cursor: sem totalElements/totalPages (não há count).
+ *
+ * @param next cursor opaco para a próxima página; null na última
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String next
+) {
+    public static <T> SliceResponse<T> of(Slice<T> slice, Function<T, String> nextCursor) {
+        List<T> content = slice.getContent();
+        String next = slice.hasNext() && !content.isEmpty()
+                ? nextCursor.apply(content.get(content.size() - 1))
+                : null;
+        return new SliceResponse<>(content, slice.getSize(), slice.hasNext(), next);
+    }
+}
@@ -5,14 +5,18 @@ import com.diego.jobtracker.model.ApplicationStatus;
 import com.diego.jobtracker.model.ApplicationPriority;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
 
+// Limites de tamanho = colunas de job_applications (V1/V2)
 public record UpsertJobApplicationRequest(
         @NotBlank(message = "company is required")
+        @Size(max = 255, message = "company must have at most 255 characters")
         String company,
 
         @NotBlank(message = "role is required")
+        @Size(max = 255, message = "role must have at most 255 characters")
         String role,
 
         @NotNull(message = "status is required")
@@ -26,7 +30,9 @@ public record UpsertJobApplicationRequest(
 
         String notes,
 
+        @Size(max = 500, message = "jobUrl must have at most 500 characters")
         String jobUrl,
 
+        @Size(max = 100, message = "salary must have at most 100 characters")
         String salary
 ) {}
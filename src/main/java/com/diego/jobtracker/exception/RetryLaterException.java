@@ -0,0 +1,25 @@
+package com.diego.jobtracker.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 429/503 com Retry-After (segundos): o resolver padrão do Spring copia os headers para a resposta.
+ */
+public class RetryLaterException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public RetryLaterException(HttpStatusCode status, String reason, long retryAfterSeconds) {
+        super(status, reason);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
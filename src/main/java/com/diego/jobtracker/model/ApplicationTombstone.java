@@ -0,0 +1,54 @@
+package com.diego.jobtracker.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id de candidatura removida, para GET /applications/changes avisar os clientes.
+ * Linhas mais velhas que app.sync.tombstone-retention são apagadas nas remoções seguintes.
+ */
+@Entity
+@Table(name = "application_tombstones")
+public class ApplicationTombstone implements Persistable<Long> {
+
+    @Id
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // id vem da candidatura: save() faz persist direto, sem o SELECT do merge
+    @Transient
+    private boolean isNew = true;
+
+    protected ApplicationTombstone() {
+    }
+
+    public ApplicationTombstone(Long applicationId, Long userId, LocalDateTime deletedAt) {
+        this.applicationId = applicationId;
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    @Override
+    public Long getId() { return applicationId; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public Long getApplicationId() { return applicationId; }
+    public Long getUserId() { return userId; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+}
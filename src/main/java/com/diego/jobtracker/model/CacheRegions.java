@@ -0,0 +1,19 @@
+package com.diego.jobtracker.model;
+
+/**
+ * Nomes das regiões do cache de segundo nível do Hibernate.
+ * Tamanho e TTL de cada uma: app.cache.regions.<região>.max-size / .ttl
+ */
+public final class CacheRegions {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "users-by-email";
+    public static final String APPLICATIONS = "applications";
+
+    // Regiões padrão do Hibernate para o cache de consultas
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
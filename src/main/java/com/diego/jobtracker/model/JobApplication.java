@@ -5,16 +5,23 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.APPLICATIONS)
 @Table(name = "job_applications")
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_applications_seq")
+    @SequenceGenerator(name = "job_applications_seq", sequenceName = "job_applications_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "company is required")
@@ -48,7 +55,7 @@ public class JobApplication {
     @Column(length = 100)
     private String salary;
 
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @JsonIgnore
@@ -56,8 +63,10 @@ public class JobApplication {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // Também no INSERT: GET /applications/changes lê tudo por updated_at
+    @PrePersist
     @PreUpdate
-    public void preUpdate() {
+    public void touch() {
         updatedAt = LocalDateTime.now();
     }
 
@@ -0,0 +1,53 @@
+package com.diego.jobtracker.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Token (jti) revogado no logout; vale até o "exp" do próprio token, depois a linha é apagada.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "jti", length = 64)
+    private String jti;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // id vem do token: save() faz persist direto, sem o SELECT do merge
+    @Transient
+    private boolean isNew = true;
+
+    protected RevokedToken() {
+    }
+
+    public RevokedToken(String jti, Long userId, Instant expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    @Override
+    public String getId() { return jti; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public String getJti() { return jti; }
+    public Long getUserId() { return userId; }
+    public Instant getExpiresAt() { return expiresAt; }
+}
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public class StatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_history_seq")
+    @SequenceGenerator(name = "status_history_seq", sequenceName = "status_history_seq", allocationSize = 50)
     private Long id;
 
     @JsonIgnore
@@ -0,0 +1,100 @@
+package com.diego.jobtracker.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Abre um {@link SqlStatementStats.Scope} por requisição, antes da cadeia do Spring Security
+ * (a busca do usuário pelo token também conta).
+ *
+ * Com app.sql-stats.headers (dev/local/testes) a resposta leva X-Query-Count e
+ * Server-Timing (db;dur=...), escritos no commit — antes do corpo sair. Acima de
+ * app.sql-stats.budget statements, ou com o mesmo SQL repetido app.sql-stats.repeat-threshold
+ * vezes (cara de N+1), loga um aviso com a rota. Respostas assíncronas (SSE, export)
+ * ficam de fora: o trabalho delas acontece depois, em outra thread.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    @Value("${app.sql-stats.headers:false}")
+    private boolean headers;
+
+    @Value("${app.sql-stats.budget:10}")
+    private long budget;
+
+    @Value("${app.sql-stats.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.open()) {
+            HttpServletResponse target = headers ? new StatsHeaderResponse(request, response, scope) : response;
+            filterChain.doFilter(request, target);
+
+            if (!request.isAsyncStarted()) {
+                checkBudget(request, scope);
+            }
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, SqlStatementStats.Scope scope) {
+        if (scope.statements() > budget) {
+            log.warn("{} {} ran {} SQL statements ({} ms in JDBC), budget is {}",
+                    request.getMethod(), route(request), scope.statements(),
+                    String.format(Locale.ROOT, "%.1f", scope.millis()), budget);
+        }
+        scope.mostRepeated()
+                .filter(entry -> entry.getValue() >= repeatThreshold)
+                .ifPresent(entry -> log.warn("{} {} ran the same statement {} times (possible N+1): {}",
+                        request.getMethod(), route(request), entry.getValue(), entry.getKey()));
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static final class StatsHeaderResponse extends OnCommittedResponseWrapper {
+        private final HttpServletRequest request;
+        private final SqlStatementStats.Scope scope;
+
+        StatsHeaderResponse(HttpServletRequest request, HttpServletResponse response, SqlStatementStats.Scope scope) {
+            super(response);
+            this.request = request;
+            this.scope = scope;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            if (request.isAsyncStarted()) return;
+            addHeader(QUERY_COUNT_HEADER, Long.toString(scope.statements()));
+            addHeader("Server-Timing", String.format(Locale.ROOT,
+                    "db;dur=%.1f;desc=\"%d statements\"", scope.millis(), scope.statements()));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.diego.jobtracker.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Listener do datasource-proxy que alimenta o {@link SqlStatementStats} da thread atual.
+ * Sem escopo aberto (jobs de startup, schedulers) não faz nada além de ler o relógio.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = SqlStatementListener.class.getName() + ".startedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // getElapsedTime() do proxy é em ms: mede em ns aqui
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        long elapsed = startedAt == null ? 0 : System.nanoTime() - startedAt;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+        SqlStatementStats.record(sql, elapsed);
+    }
+}
@@ -0,0 +1,95 @@
+package com.diego.jobtracker.observability;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contagem de statements JDBC (round trips; um batch conta como um) e tempo de JDBC
+ * por escopo — uma requisição HTTP, ou um trecho de teste.
+ *
+ * O escopo vale para a thread que o abriu; trabalho em outras threads (seções do
+ * dashboard) entra com {@link #propagate(Callable)}. Escopos podem ser aninhados:
+ * cada statement conta no escopo atual e em todos os de fora.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementStats() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Optional<Scope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /** A tarefa conta no escopo de quem a criou, em qualquer thread que rodar. */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) return task;
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    static void record(String sql, long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.add(sql, nanos);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Thread owner = Thread.currentThread();
+        private final AtomicLong statements = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final Map<String, Integer> bySql = new ConcurrentHashMap<>();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(String sql, long elapsed) {
+            statements.incrementAndGet();
+            nanos.addAndGet(elapsed);
+            bySql.merge(sql, 1, Integer::sum);
+        }
+
+        public long statements() {
+            return statements.get();
+        }
+
+        public double millis() {
+            return nanos.get() / 1_000_000.0;
+        }
+
+        /** O SQL mais repetido e quantas vezes rodou — N+1 aparece como o mesmo SELECT N vezes. */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return bySql.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        @Override
+        public void close() {
+            if (Thread.currentThread() == owner && CURRENT.get() == this) {
+                if (parent == null) CURRENT.remove();
+                else CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Uma requisição HTTP inteira. Os outros eventos da mesma thread dentro desse
+ * intervalo pertencem a ela (é assim que o analisador monta o resumo por rota).
+ */
+@Name("jobtracker.HttpRequest")
+@Label("HTTP Request")
+@Category({"Job Tracker", "HTTP"})
+@StackTrace(false)
+public class HttpRequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("Padrão do mapping (/applications/{id}); a URI quando não houve handler")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("SQL Statements")
+    public long sqlStatements;
+}
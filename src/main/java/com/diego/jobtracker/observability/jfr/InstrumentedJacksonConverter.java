@@ -0,0 +1,94 @@
+package com.diego.jobtracker.observability.jfr;
+
+import com.diego.jobtracker.dto.ApplicationChangesResponse;
+import com.diego.jobtracker.dto.FollowUpOverview;
+import com.diego.jobtracker.dto.SliceResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor JSON padrão que emite um {@link SerializationEvent} ao escrever respostas
+ * paginadas (as que crescem com o tamanho da página). Os demais corpos seguem direto.
+ */
+class InstrumentedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    InstrumentedJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Object value = object instanceof MappingJacksonValue wrapper ? wrapper.getValue() : object;
+        int items = pageItems(value);
+        SerializationEvent event = new SerializationEvent();
+        if (items < 0 || !event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        CountingOutputMessage counting = new CountingOutputMessage(outputMessage);
+        event.begin();
+        try {
+            super.writeInternal(object, type, counting);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.payloadType = value.getClass().getSimpleName();
+                event.items = items;
+                event.bytes = counting.bytes;
+                event.commit();
+            }
+        }
+    }
+
+    /** Itens de uma resposta paginada; -1 para o resto. */
+    private static int pageItems(Object value) {
+        return switch (value) {
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case SliceResponse<?> slice -> slice.content().size();
+            case ApplicationChangesResponse changes -> changes.upserts().size() + changes.deleted().size();
+            case FollowUpOverview overview -> overview.items().size();
+            case null, default -> -1;
+        };
+    }
+
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+        private final HttpOutputMessage delegate;
+        private long bytes;
+
+        CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytes += len;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.diego.jobtracker.observability.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Pontos de instrumentação JFR que não cabem num método só: todas as chamadas de
+ * repositório e a serialização das respostas paginadas. Os eventos existem sempre;
+ * só custam algo quando uma gravação (app.jfr.enabled ou jcmd JFR.start) os habilita.
+ */
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    static BeanPostProcessor repositoryCallEvents() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositoryCallInterceptor(information.getRepositoryInterface())
+                            )
+                    ));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // substitui o conversor JSON do Boot (mesmo ObjectMapper)
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new InstrumentedJacksonConverter(objectMapper);
+    }
+}
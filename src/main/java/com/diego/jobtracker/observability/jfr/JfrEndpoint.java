@@ -0,0 +1,49 @@
+package com.diego.jobtracker.observability.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * POST /actuator/jfr (porta de gerenciamento) devolve o arquivo .jfr com a gravação atual.
+ * Só com a credencial de operador (HTTP Basic, app.jfr.operator.*), não com o login da API.
+ * Ex: curl -X POST -u "operator:$JFR_OPERATOR_PASSWORD" -o app.jfr http://localhost:8081/actuator/jfr
+ */
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class JfrEndpoint {
+
+    private final JfrRecorder recorder;
+
+    public JfrEndpoint(JfrRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @WriteOperation
+    public Resource dump() {
+        return new DumpResource(recorder.dump());
+    }
+
+    // arquivo de uma requisição só: apagado quando a resposta termina de ler
+    private static final class DumpResource extends FileSystemResource {
+
+        DumpResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(getFile().toPath(), StandardOpenOption.DELETE_ON_CLOSE);
+        }
+    }
+}
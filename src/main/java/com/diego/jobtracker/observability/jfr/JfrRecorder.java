@@ -0,0 +1,80 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Gravação JFR contínua (app.jfr.enabled), em disco e limitada por idade/tamanho, com os
+ * eventos da aplicação, amostras de CPU e GC. Só isso: os eventos padrão do JDK com
+ * variáveis de ambiente e system properties (segredos) ficam de fora.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class JfrRecorder {
+
+    static final List<Class<? extends Event>> EVENTS = List.of(
+            HttpRequestEvent.class,
+            JwtVerifyEvent.class,
+            UserResolutionEvent.class,
+            RepositoryCallEvent.class,
+            StatusChangeEvent.class,
+            SerializationEvent.class
+    );
+
+    private Recording recording;
+
+    @Value("${app.jfr.max-age:15m}")
+    private Duration maxAge;
+
+    @Value("${app.jfr.max-size-mb:64}")
+    private long maxSizeMb;
+
+    @Value("${app.jfr.dump-dir:${java.io.tmpdir}}")
+    private Path dumpDir;
+
+    @PostConstruct
+    void start() {
+        recording = new Recording();
+        recording.setName("jobtracker");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        EVENTS.forEach(recording::enable);
+        recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(20));
+        recording.enable("jdk.GarbageCollection");
+        recording.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        recording.close();
+    }
+
+    /**
+     * Copia o que está no buffer para um arquivo novo em app.jfr.dump-dir (um por chamada:
+     * dumps simultâneos não sobrescrevem um download em andamento). Quem chama apaga.
+     */
+    public Path dump() {
+        try {
+            Files.createDirectories(dumpDir);
+            Path file = dumpDir.resolve("jobtracker-" + UUID.randomUUID() + ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
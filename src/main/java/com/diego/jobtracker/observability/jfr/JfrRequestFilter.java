@@ -0,0 +1,48 @@
+package com.diego.jobtracker.observability.jfr;
+
+import com.diego.jobtracker.observability.SqlStatementStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/** Emite o {@link HttpRequestEvent} que agrupa os demais eventos da requisição. */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class JfrRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (!event.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        event.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.method = request.getMethod();
+                event.route = pattern != null ? pattern.toString() : request.getRequestURI();
+                event.status = response.getStatus();
+                event.sqlStatements = SqlStatementStats.current().map(SqlStatementStats.Scope::statements).orElse(-1L);
+                event.commit();
+            }
+        }
+    }
+}
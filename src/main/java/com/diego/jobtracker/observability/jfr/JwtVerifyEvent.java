@@ -0,0 +1,26 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("jobtracker.JwtVerify")
+@Label("JWT Verify")
+@Category({"Job Tracker", "Auth"})
+@StackTrace(false)
+public class JwtVerifyEvent extends jdk.jfr.Event {
+
+    @Label("Result")
+    @Description("cached (só o SHA-256 do cache), verified (HMAC + parse) ou invalid")
+    public String result;
+
+    public void finish(String result) {
+        end();
+        if (shouldCommit()) {
+            this.result = result;
+            commit();
+        }
+    }
+}
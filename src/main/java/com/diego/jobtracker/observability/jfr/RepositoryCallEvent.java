@@ -0,0 +1,27 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("jobtracker.RepositoryCall")
+@Label("Repository Call")
+@Category({"Job Tracker", "Persistence"})
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    @Description("Itens devolvidos (lista, página, Optional) ou linhas afetadas; -1 quando não dá para saber (stream)")
+    public long rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,60 @@
+package com.diego.jobtracker.observability.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emite um {@link RepositoryCallEvent} por chamada de repositório Spring Data.
+ * Sem gravação ativa pedindo o evento, só o isEnabled() é pago.
+ */
+class RepositoryCallInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    RepositoryCallInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) return invocation.proceed();
+
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.rows = failed ? 0 : rows(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static long rows(Object result) {
+        return switch (result) {
+            case null -> 0;
+            case Collection<?> collection -> collection.size();
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            // count/exists e @Modifying (linhas afetadas)
+            case Number number -> number.longValue();
+            case Boolean found -> found ? 1 : 0;
+            case Iterable<?> ignored -> -1;
+            case java.util.stream.BaseStream<?, ?> ignored -> -1;
+            default -> 1;
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Escrita do JSON de uma resposta paginada (serialização + cópia para o buffer da resposta). */
+@Name("jobtracker.Serialization")
+@Label("Response Serialization")
+@Category({"Job Tracker", "HTTP"})
+@StackTrace(false)
+public class SerializationEvent extends jdk.jfr.Event {
+
+    @Label("Payload Type")
+    public String payloadType;
+
+    @Label("Items")
+    public int items;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
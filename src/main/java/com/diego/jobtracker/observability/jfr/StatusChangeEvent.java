@@ -0,0 +1,28 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("jobtracker.StatusChange")
+@Label("Status Change")
+@Category({"Job Tracker", "Applications"})
+@StackTrace(false)
+public class StatusChangeEvent extends jdk.jfr.Event {
+
+    @Label("Application Id")
+    @Description("0 no caminho em massa")
+    public long applicationId;
+
+    @Label("From Status")
+    public String fromStatus;
+
+    @Label("To Status")
+    public String toStatus;
+
+    @Label("Count")
+    @Description("Linhas de histórico gravadas")
+    public int count;
+}
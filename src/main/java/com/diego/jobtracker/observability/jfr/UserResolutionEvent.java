@@ -0,0 +1,30 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("jobtracker.UserResolution")
+@Label("User Resolution")
+@Category({"Job Tracker", "Auth"})
+@StackTrace(false)
+public class UserResolutionEvent extends jdk.jfr.Event {
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Source")
+    @Description("claim (uid do token), email-lookup (token antigo), revoked ou unresolved")
+    public String source;
+
+    public void finish(long userId, String source) {
+        end();
+        if (shouldCommit()) {
+            this.userId = userId;
+            this.source = source;
+            commit();
+        }
+    }
+}
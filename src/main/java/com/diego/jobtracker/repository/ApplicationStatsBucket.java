@@ -0,0 +1,18 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+
+/**
+ * Uma linha do GROUP BY de {@link JobApplicationRepository#aggregateStats}:
+ * contagens para uma combinação de status, prioridade e mês de candidatura.
+ */
+public record ApplicationStatsBucket(
+        ApplicationStatus status,
+        ApplicationPriority priority,
+        Integer appliedYear,
+        Integer appliedMonth,
+        Long total,
+        Long followUpDue,
+        Long followUpOverdue
+) {}
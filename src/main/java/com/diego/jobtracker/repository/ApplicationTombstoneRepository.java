@@ -0,0 +1,32 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.model.ApplicationTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApplicationTombstoneRepository extends JpaRepository<ApplicationTombstone, Long> {
+
+    // Mesma ordem (deleted_at, id) do ChangeToken; usa idx_application_tombstones_user_deleted
+    @Query("""
+            select t from ApplicationTombstone t
+            where t.userId = :userId
+              and (t.deletedAt > :changedAt or (t.deletedAt = :changedAt and t.applicationId > :id))
+            order by t.deletedAt, t.applicationId
+            """)
+    List<ApplicationTombstone> findAfter(
+            @Param("userId") Long userId,
+            @Param("changedAt") LocalDateTime changedAt,
+            @Param("id") long id,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("delete from ApplicationTombstone t where t.userId = :userId and t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,47 @@
+package com.diego.jobtracker.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Posição na sequência de alterações do usuário, ordenada por (updated_at, id):
+ * vale para candidaturas (updated_at) e remoções (deleted_at) ao mesmo tempo.
+ * Serializado como string opaca (base64url) para o cliente, como o KeysetCursor.
+ */
+public record ChangeToken(LocalDateTime changedAt, long id) implements Comparable<ChangeToken> {
+
+    private static final String VERSION = "v1";
+
+    public String encode() {
+        String raw = VERSION + ":" + changedAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static ChangeToken decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        // o horário também tem ':', então id e versão saem pelas pontas
+        int first = raw.indexOf(':');
+        int last = raw.lastIndexOf(':');
+        if (first < 0 || first == last || !VERSION.equals(raw.substring(0, first))) {
+            throw new IllegalArgumentException("Invalid change token");
+        }
+        try {
+            return new ChangeToken(
+                    LocalDateTime.parse(raw.substring(first + 1, last)),
+                    Long.parseLong(raw.substring(last + 1))
+            );
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid change token");
+        }
+    }
+
+    @Override
+    public int compareTo(ChangeToken other) {
+        int byTime = changedAt.compareTo(other.changedAt);
+        return byTime != 0 ? byTime : Long.compare(id, other.id);
+    }
+}
@@ -0,0 +1,29 @@
+package com.diego.jobtracker.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ids para INSERTs feitos via JDBC (import, bulk), tirados do mesmo gerador
+ * pooled que o Hibernate usa para a entidade: um nextval a cada 50 ids e sem
+ * colisão com as inserções feitas pelo JPA. Precisa de uma transação ativa.
+ */
+@Component
+public class EntityIdAllocator {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public long nextId(Class<?> entityType) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+        return ((Number) generator.generate(session, null, null, EventType.INSERT)).longValue();
+    }
+}
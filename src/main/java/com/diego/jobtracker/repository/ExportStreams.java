@@ -0,0 +1,25 @@
+package com.diego.jobtracker.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+
+import java.util.stream.Stream;
+
+/**
+ * Os hints de cache da query só valem enquanto ela executa; as linhas de um
+ * getResultStream são carregadas depois, durante a iteração, com o CacheMode da
+ * sessão. Por isso a sessão fica em IGNORE até o stream ser fechado.
+ */
+final class ExportStreams {
+
+    private ExportStreams() {
+    }
+
+    static <T> Stream<T> bypassingSecondLevelCache(EntityManager entityManager, Stream<T> rows) {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        return rows.onClose(() -> session.setCacheMode(previous));
+    }
+}
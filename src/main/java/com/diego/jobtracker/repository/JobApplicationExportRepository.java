@@ -0,0 +1,15 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.model.JobApplication;
+
+import java.util.stream.Stream;
+
+public interface JobApplicationExportRepository {
+
+    /**
+     * Cursor forward-only (fetch size fixo, somente leitura, sem count), ordenado
+     * por appliedDate desc e id desc. Precisa rodar dentro de uma transação e o
+     * stream deve ser fechado por quem chama.
+     */
+    Stream<JobApplication> streamForExport(JobApplicationFilter filter);
+}
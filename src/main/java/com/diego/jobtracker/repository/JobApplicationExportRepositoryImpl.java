@@ -0,0 +1,43 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.model.JobApplication;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.stream.Stream;
+
+class JobApplicationExportRepositoryImpl implements JobApplicationExportRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<JobApplication> streamForExport(JobApplicationFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplication> query = cb.createQuery(JobApplication.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+
+        query.select(root)
+                .where(JobApplicationSpecifications.matching(filter).toPredicate(root, query, cb))
+                .orderBy(cb.desc(root.get("appliedDate")), cb.desc(root.get("id")));
+
+        Stream<JobApplication> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                // Não passa o export inteiro pelo cache de segundo nível
+                .setHint(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)
+                .setHint(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS)
+                .getResultStream();
+        return ExportStreams.bypassingSecondLevelCache(entityManager, rows);
+    }
+}
@@ -0,0 +1,55 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Critérios da listagem/export de candidaturas. Campos nulos ou vazios não filtram.
+ * Todos os limites de data são inclusivos.
+ *
+ * Cada critério tem índice composto começando por user_id (V7/V8):
+ * status → (user_id, status, follow_up_date, id), priority → (user_id, priority),
+ * appliedDate → (user_id, applied_date, id), followUpDate → (user_id, follow_up_date, id),
+ * companyPrefix → (user_id, lower(company) text_pattern_ops).
+ */
+public record JobApplicationFilter(
+        Long userId,
+        Set<ApplicationStatus> statuses,
+        Set<ApplicationPriority> priorities,
+        LocalDate appliedFrom,
+        LocalDate appliedTo,
+        LocalDate followUpFrom,
+        LocalDate followUpTo,
+        String companyPrefix
+) {
+    public static JobApplicationFilter forUser(Long userId) {
+        return new JobApplicationFilter(userId, Set.of(), Set.of(), null, null, null, null, null);
+    }
+
+    public boolean hasStatuses() {
+        return statuses != null && !statuses.isEmpty();
+    }
+
+    public boolean hasPriorities() {
+        return priorities != null && !priorities.isEmpty();
+    }
+
+    public boolean hasCompanyPrefix() {
+        return companyPrefix != null && !companyPrefix.isBlank();
+    }
+
+    /**
+     * Prefixo em minúsculas com % e _ escapados (escape '\'), pronto para LIKE.
+     */
+    public String companyLikePattern() {
+        String prefix = companyPrefix.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return prefix + "%";
+    }
+}
@@ -0,0 +1,33 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.model.JobApplication;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Paginação por cursor (keyset/seek): sem count(*) e sem OFFSET,
+ * então o custo de uma página não depende de quantas vieram antes.
+ */
+public interface JobApplicationKeysetRepository {
+
+    /**
+     * @param after posição da última linha da página anterior (null = primeira página)
+     */
+    Slice<JobApplication> findSlice(
+            Specification<JobApplication> filter,
+            KeysetOrder order,
+            KeysetCursor after,
+            int size
+    );
+
+    /**
+     * Igual a {@link #findSlice}, projetado em {@link JobApplicationSummary}.
+     */
+    Slice<JobApplicationSummary> findSummarySlice(
+            Specification<JobApplication> filter,
+            KeysetOrder order,
+            KeysetCursor after,
+            int size
+    );
+}
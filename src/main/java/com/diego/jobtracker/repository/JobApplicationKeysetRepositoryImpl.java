@@ -0,0 +1,128 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.model.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * A coluna de ordenação é nullable, então o percurso tem duas fases:
+ * primeiro as linhas com valor (seek em (coluna, id)), depois as linhas com
+ * a coluna nula (seek só em id). Cada fase é uma faixa contínua do índice
+ * (user_id, coluna, id); uma página usa no máximo duas consultas.
+ */
+class JobApplicationKeysetRepositoryImpl implements JobApplicationKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<JobApplication> findSlice(
+            Specification<JobApplication> filter,
+            KeysetOrder order,
+            KeysetCursor after,
+            int size
+    ) {
+        return slice(JobApplication.class, (cb, root) -> root, filter, order, after, size);
+    }
+
+    @Override
+    public Slice<JobApplicationSummary> findSummarySlice(
+            Specification<JobApplication> filter,
+            KeysetOrder order,
+            KeysetCursor after,
+            int size
+    ) {
+        return slice(JobApplicationSummary.class, JobApplicationSummaryRepositoryImpl::selection, filter, order, after, size);
+    }
+
+    private <R> Slice<R> slice(
+            Class<R> resultType,
+            BiFunction<CriteriaBuilder, Root<JobApplication>, Selection<R>> selection,
+            Specification<JobApplication> filter,
+            KeysetOrder order,
+            KeysetCursor after,
+            int size
+    ) {
+        List<R> rows = new ArrayList<>(size + 1);
+
+        boolean inNullPhase = after != null && after.value() == null;
+        if (!inNullPhase) {
+            rows.addAll(fetch(resultType, selection, filter, order, after, false, size + 1));
+        }
+        if (rows.size() <= size) {
+            KeysetCursor nullPhaseAfter = inNullPhase ? after : null;
+            rows.addAll(fetch(resultType, selection, filter, order, nullPhaseAfter, true, size + 1 - rows.size()));
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<R> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(List.copyOf(content), PageRequest.ofSize(size), hasNext);
+    }
+
+    private <R> List<R> fetch(
+            Class<R> resultType,
+            BiFunction<CriteriaBuilder, Root<JobApplication>, Selection<R>> selection,
+            Specification<JobApplication> filter,
+            KeysetOrder order,
+            KeysetCursor after,
+            boolean nullPhase,
+            int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(resultType);
+        Root<JobApplication> root = query.from(JobApplication.class);
+
+        Path<LocalDate> column = root.get(order.property());
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filterPredicate = filter == null ? null : filter.toPredicate(root, query, cb);
+        if (filterPredicate != null) predicates.add(filterPredicate);
+
+        if (nullPhase) {
+            predicates.add(cb.isNull(column));
+            if (after != null) {
+                predicates.add(order.ascending() ? cb.greaterThan(id, after.id()) : cb.lessThan(id, after.id()));
+            }
+        } else {
+            predicates.add(cb.isNotNull(column));
+            if (after != null) {
+                // col <= :v AND (col < :v OR id < :id): o primeiro termo vira a faixa do índice
+                LocalDate value = after.value();
+                if (order.ascending()) {
+                    predicates.add(cb.greaterThanOrEqualTo(column, value));
+                    predicates.add(cb.or(cb.greaterThan(column, value), cb.greaterThan(id, after.id())));
+                } else {
+                    predicates.add(cb.lessThanOrEqualTo(column, value));
+                    predicates.add(cb.or(cb.lessThan(column, value), cb.lessThan(id, after.id())));
+                }
+            }
+        }
+
+        query.select(selection.apply(cb, root))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(order.ascending()
+                        ? List.of(cb.asc(column), cb.asc(id))
+                        : List.of(cb.desc(column), cb.desc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,22 +1,37 @@
 // src/main/java/com/diego/jobtracker/repository/JobApplicationRepository.java
 package com.diego.jobtracker.repository;
 
-import com.diego.jobtracker.model.ApplicationStatus;
 import com.diego.jobtracker.model.JobApplication;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
-    Page<JobApplication> findByUserId(Long userId, Pageable pageable);
-    Page<JobApplication> findByUserIdAndStatus(Long userId, ApplicationStatus status, Pageable pageable);
-    Page<JobApplication> findByUserIdAndFollowUpDateLessThanEqual(Long userId, LocalDate followUpDate, Pageable pageable);
-    Page<JobApplication> findByUserIdAndFollowUpDateLessThan(Long userId, LocalDate followUpDate, Pageable pageable);
-    Page<JobApplication> findByUserIdAndStatusAndFollowUpDateLessThanEqual(Long userId, ApplicationStatus status, LocalDate followUpDate, Pageable pageable);
-    Page<JobApplication> findByUserIdAndStatusAndFollowUpDateLessThan(Long userId, ApplicationStatus status, LocalDate followUpDate, Pageable pageable);
-    Optional<JobApplication> findByIdAndUserId(Long id, Long userId);
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>,
+        JpaSpecificationExecutor<JobApplication>,
+        JobApplicationSearchRepository,
+        JobApplicationKeysetRepository,
+        JobApplicationSummaryRepository,
+        JobApplicationExportRepository {
     boolean existsByIdAndUserId(Long id, Long userId);
+
+    // Estatísticas: uma única passada agrupada pelas linhas do usuário
+    @Query("""
+            select new com.diego.jobtracker.repository.ApplicationStatsBucket(
+                a.status,
+                a.priority,
+                year(a.appliedDate),
+                month(a.appliedDate),
+                count(a),
+                sum(case when a.followUpDate <= :today then 1L else 0L end),
+                sum(case when a.followUpDate < :today then 1L else 0L end)
+            )
+            from JobApplication a
+            where a.user.id = :userId
+            group by a.status, a.priority, year(a.appliedDate), month(a.appliedDate)
+            """)
+    List<ApplicationStatsBucket> aggregateStats(@Param("userId") Long userId, @Param("today") LocalDate today);
 }
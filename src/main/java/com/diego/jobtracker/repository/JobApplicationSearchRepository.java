@@ -0,0 +1,26 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.model.JobApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.stream.Stream;
+
+/**
+ * Busca textual em company, role e notes (sem acentos, por prefixo),
+ * ordenada por relevância.
+ */
+public interface JobApplicationSearchRepository {
+
+    Page<JobApplication> search(JobApplicationFilter filter, String query, Pageable pageable);
+
+    Page<JobApplicationSummary> searchSummaries(JobApplicationFilter filter, String query, Pageable pageable);
+
+    /**
+     * Todos os resultados da busca, na mesma ordem, num cursor como o de
+     * {@link JobApplicationExportRepository#streamForExport}: dentro de uma transação,
+     * fechado por quem chama.
+     */
+    Stream<JobApplication> streamSearch(JobApplicationFilter filter, String query);
+}
@@ -0,0 +1,275 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * PostgreSQL: coluna search_vector (tsvector gerado, índice GIN, ver V6) + ts_rank.
+ * H2 (perfil local e testes): prefixo de palavra (como o term:* do to_tsquery) sobre o
+ * texto sem acentos, com um rank simples (company > role > notes). Não usa índice, mas
+ * a base local é pequena. Termos, H2 e jt_unaccent tiram acentos com a mesma tabela.
+ */
+class JobApplicationSearchRepositoryImpl implements JobApplicationSearchRepository {
+
+    private static final int MAX_TERMS = 8;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Mesma tabela da função jt_unaccent (V6); acento fora dela fica como está nos dois lados
+    static final String ACCENTED = "áàâãäåéèêëíìîïóòôõöúùûüçñýÿÁÀÂÃÄÅÉÈÊËÍÌÎÏÓÒÔÕÖÚÙÛÜÇÑÝ";
+    static final String UNACCENTED = "aaaaaaeeeeiiiiooooouuuucnyyAAAAAAEEEEIIIIOOOOOUUUUCNY";
+
+    // Início de palavra: os termos só têm letras/dígitos, então entram no regex sem escape
+    private static final String WORD_START = "(^|[^\\p{L}\\p{N}])";
+
+    private static final String COLUMNS = """
+            ja.id, ja.company, ja.role, ja.status, ja.priority, ja.applied_date, ja.follow_up_date,
+            ja.notes, ja.job_url, ja.salary, ja.updated_at, ja.user_id
+            """;
+
+    // JobApplicationSummary: sem notes e sem user_id
+    private static final String SUMMARY_COLUMNS = """
+            ja.id, ja.company, ja.role, ja.status, ja.priority, ja.applied_date, ja.follow_up_date,
+            ja.job_url, ja.salary, ja.updated_at
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public Page<JobApplication> search(JobApplicationFilter filter, String query, Pageable pageable) {
+        SearchSql sql = searchSql(filter, query);
+        if (sql == null) {
+            return Page.empty(pageable);
+        }
+
+        Query select = entityManager.createNativeQuery(sql.select(COLUMNS), JobApplication.class);
+        @SuppressWarnings("unchecked")
+        List<JobApplication> content = bind(select, sql, pageable).getResultList();
+        return new PageImpl<>(content, pageable, count(sql));
+    }
+
+    @Override
+    public Page<JobApplicationSummary> searchSummaries(JobApplicationFilter filter, String query, Pageable pageable) {
+        SearchSql sql = searchSql(filter, query);
+        if (sql == null) {
+            return Page.empty(pageable);
+        }
+
+        // Escalares tipados: converte direto para os tipos do record, sem passar pela entidade
+        NativeQuery<?> select = entityManager.createNativeQuery(sql.select(SUMMARY_COLUMNS))
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("company", String.class)
+                .addScalar("role", String.class)
+                .addScalar("status", String.class)
+                .addScalar("priority", String.class)
+                .addScalar("applied_date", LocalDate.class)
+                .addScalar("follow_up_date", LocalDate.class)
+                .addScalar("job_url", String.class)
+                .addScalar("salary", String.class)
+                .addScalar("updated_at", LocalDateTime.class);
+
+        List<JobApplicationSummary> content = bind(select, sql, pageable).getResultList().stream()
+                .map(row -> (Object[]) row)
+                .map(row -> new JobApplicationSummary(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        ApplicationStatus.valueOf((String) row[3]),
+                        ApplicationPriority.valueOf((String) row[4]),
+                        (LocalDate) row[5],
+                        (LocalDate) row[6],
+                        (String) row[7],
+                        (String) row[8],
+                        (LocalDateTime) row[9]
+                ))
+                .toList();
+        return new PageImpl<>(content, pageable, count(sql));
+    }
+
+    @Override
+    public Stream<JobApplication> streamSearch(JobApplicationFilter filter, String query) {
+        SearchSql sql = searchSql(filter, query);
+        if (sql == null) {
+            return Stream.empty();
+        }
+
+        Query select = entityManager.createNativeQuery(sql.selectAll(COLUMNS), JobApplication.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                // Como em streamForExport: o export inteiro não passa pelo cache de segundo nível
+                .setHint(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)
+                .setHint(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        sql.params().forEach(select::setParameter);
+        @SuppressWarnings("unchecked")
+        Stream<JobApplication> rows = select.getResultStream();
+        return ExportStreams.bypassingSecondLevelCache(entityManager, rows);
+    }
+
+    /**
+     * WHERE + expressão de rank da busca; null quando a consulta não tem termos.
+     */
+    private SearchSql searchSql(JobApplicationFilter filter, String query) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder where = new StringBuilder();
+        appendFilter(filter, where, params);
+
+        String rank;
+        if (isPostgres()) {
+            String tsQuery = String.join(" & ", terms.stream().map(term -> term + ":*").toList());
+            where.append(" AND ja.search_vector @@ to_tsquery('simple', :tsQuery)");
+            rank = "ts_rank(ja.search_vector, to_tsquery('simple', :tsQuery))";
+            params.put("tsQuery", tsQuery);
+        } else {
+            StringBuilder rankExpr = new StringBuilder("0");
+            for (int i = 0; i < terms.size(); i++) {
+                String param = "term" + i;
+                where.append(" AND (").append(h2Matches("ja.company", param))
+                        .append(" OR ").append(h2Matches("ja.role", param))
+                        .append(" OR ").append(h2Matches("ja.notes", param))
+                        .append(")");
+                rankExpr.append(" + CASE WHEN ").append(h2Matches("ja.company", param)).append(" THEN 3")
+                        .append(" WHEN ").append(h2Matches("ja.role", param)).append(" THEN 2")
+                        .append(" ELSE 1 END");
+                params.put(param, WORD_START + terms.get(i));
+            }
+            rank = rankExpr.toString();
+        }
+        return new SearchSql(where.toString(), rank, params);
+    }
+
+    private static <Q extends Query> Q bind(Q select, SearchSql sql, Pageable pageable) {
+        sql.params().forEach(select::setParameter);
+        select.setParameter("limit", pageable.getPageSize());
+        select.setParameter("offset", pageable.getOffset());
+        return select;
+    }
+
+    private long count(SearchSql sql) {
+        Query count = entityManager.createNativeQuery("SELECT COUNT(*) FROM job_applications ja WHERE " + sql.where());
+        sql.params().forEach(count::setParameter);
+        return ((Number) count.getSingleResult()).longValue();
+    }
+
+    private record SearchSql(String where, String rank, Map<String, Object> params) {
+        String select(String columns) {
+            return selectAll(columns) + " LIMIT :limit OFFSET :offset";
+        }
+
+        String selectAll(String columns) {
+            return "SELECT " + columns + " FROM job_applications ja WHERE " + where
+                    + " ORDER BY " + rank + " DESC, ja.id DESC";
+        }
+    }
+
+    // Mesmos critérios de JobApplicationSpecifications.matching, em SQL nativo
+    private static void appendFilter(JobApplicationFilter filter, StringBuilder where, Map<String, Object> params) {
+        where.append("ja.user_id = :userId");
+        params.put("userId", filter.userId());
+
+        if (filter.hasStatuses()) {
+            where.append(" AND ja.status IN (:statuses)");
+            params.put("statuses", filter.statuses().stream().map(Enum::name).toList());
+        }
+        if (filter.hasPriorities()) {
+            where.append(" AND ja.priority IN (:priorities)");
+            params.put("priorities", filter.priorities().stream().map(Enum::name).toList());
+        }
+        if (filter.appliedFrom() != null) {
+            where.append(" AND ja.applied_date >= :appliedFrom");
+            params.put("appliedFrom", filter.appliedFrom());
+        }
+        if (filter.appliedTo() != null) {
+            where.append(" AND ja.applied_date <= :appliedTo");
+            params.put("appliedTo", filter.appliedTo());
+        }
+        if (filter.followUpFrom() != null) {
+            where.append(" AND ja.follow_up_date >= :followUpFrom");
+            params.put("followUpFrom", filter.followUpFrom());
+        }
+        if (filter.followUpTo() != null) {
+            where.append(" AND ja.follow_up_date <= :followUpTo");
+            params.put("followUpTo", filter.followUpTo());
+        }
+        if (filter.hasCompanyPrefix()) {
+            where.append(" AND LOWER(ja.company) LIKE :companyPrefix ESCAPE '\\'");
+            params.put("companyPrefix", filter.companyLikePattern());
+        }
+    }
+
+    /**
+     * Tira acentos com a tabela de jt_unaccent (o texto indexado passa pela mesma),
+     * põe em minúsculas e quebra em termos só com letras/dígitos — seguros para
+     * to_tsquery e para o regex do H2.
+     */
+    static List<String> terms(String query) {
+        if (query == null) return List.of();
+        String normalized = unaccent(Normalizer.normalize(query, Normalizer.Form.NFC)).toLowerCase(Locale.ROOT);
+        return Arrays.stream(NON_WORD.split(normalized))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    static String unaccent(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            int index = ACCENTED.indexOf(chars[i]);
+            if (index >= 0) chars[i] = UNACCENTED.charAt(index);
+        }
+        return new String(chars);
+    }
+
+    private static String h2Matches(String column, String param) {
+        return "REGEXP_LIKE(LOWER(TRANSLATE(COALESCE(" + column + ", ''), '" + ACCENTED + "', '" + UNACCENTED + "')), :"
+                + param + ")";
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            cached = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgres = cached;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,50 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.model.JobApplication;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Traduz um {@link JobApplicationFilter} em uma {@link Specification}.
+ * Só gera predicados para os critérios preenchidos — e só existem critérios
+ * com índice correspondente (ver {@link JobApplicationFilter}).
+ */
+public final class JobApplicationSpecifications {
+
+    private JobApplicationSpecifications() {
+    }
+
+    public static Specification<JobApplication> matching(JobApplicationFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user").get("id"), filter.userId()));
+
+            if (filter.hasStatuses()) {
+                predicates.add(root.get("status").in(filter.statuses()));
+            }
+            if (filter.hasPriorities()) {
+                predicates.add(root.get("priority").in(filter.priorities()));
+            }
+            if (filter.appliedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("appliedDate"), filter.appliedFrom()));
+            }
+            if (filter.appliedTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("appliedDate"), filter.appliedTo()));
+            }
+            if (filter.followUpFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("followUpDate"), filter.followUpFrom()));
+            }
+            if (filter.followUpTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("followUpDate"), filter.followUpTo()));
+            }
+            if (filter.hasCompanyPrefix()) {
+                predicates.add(cb.like(cb.lower(root.get("company")), filter.companyLikePattern(), '\\'));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.model.JobApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Listagem paginada projetada em {@link JobApplicationSummary}
+ * (mesmo filtro/ordenação de findAll(spec, pageable), sem carregar notes).
+ */
+public interface JobApplicationSummaryRepository {
+
+    Page<JobApplicationSummary> findSummaries(Specification<JobApplication> filter, Pageable pageable);
+
+    /**
+     * Candidaturas do usuário com (updatedAt, id) depois de {@code after}, nessa ordem
+     * ({@code after} null = desde o início).
+     */
+    List<JobApplicationSummary> findChangedSince(Long userId, ChangeToken after, int limit);
+
+    /** Candidaturas do usuário entre {@code ids}, sem ordem definida. */
+    List<JobApplicationSummary> findSummariesByIds(Long userId, Collection<Long> ids);
+}
@@ -0,0 +1,110 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.model.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+class JobApplicationSummaryRepositoryImpl implements JobApplicationSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<JobApplicationSummary> findSummaries(Specification<JobApplication> filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplicationSummary> query = cb.createQuery(JobApplicationSummary.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+
+        query.select(selection(cb, root))
+                .where(filter.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<JobApplicationSummary> select = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            select.setFirstResult((int) pageable.getOffset());
+            select.setMaxResults(pageable.getPageSize());
+        }
+        // Mesmo atalho do findAll(spec, pageable): sem count quando a página já define o total
+        return PageableExecutionUtils.getPage(select.getResultList(), pageable, () -> count(filter));
+    }
+
+    @Override
+    public List<JobApplicationSummary> findSummariesByIds(Long userId, Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplicationSummary> query = cb.createQuery(JobApplicationSummary.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+
+        query.select(selection(cb, root))
+                .where(cb.equal(root.get("user").get("id"), userId), root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<JobApplicationSummary> findChangedSince(Long userId, ChangeToken after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplicationSummary> query = cb.createQuery(JobApplicationSummary.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+        Path<LocalDateTime> updatedAt = root.get("updatedAt");
+        Path<Long> id = root.get("id");
+
+        Predicate where = cb.equal(root.get("user").get("id"), userId);
+        if (after != null) {
+            where = cb.and(where, cb.or(
+                    cb.greaterThan(updatedAt, after.changedAt()),
+                    cb.and(cb.equal(updatedAt, after.changedAt()), cb.greaterThan(id, after.id()))
+            ));
+        }
+        query.select(selection(cb, root))
+                .where(where)
+                .orderBy(cb.asc(updatedAt), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(Specification<JobApplication> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+        query.select(cb.count(root)).where(filter.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Colunas de {@link JobApplicationSummary}, na ordem do construtor.
+     */
+    static CompoundSelection<JobApplicationSummary> selection(CriteriaBuilder cb, Root<JobApplication> root) {
+        return cb.construct(
+                JobApplicationSummary.class,
+                root.get("id"),
+                root.get("company"),
+                root.get("role"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("appliedDate"),
+                root.get("followUpDate"),
+                root.get("jobUrl"),
+                root.get("salary"),
+                root.get("updatedAt")
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.diego.jobtracker.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Posição da última linha entregue: valor da coluna de ordenação (pode ser null) + id.
+ * Serializado como string opaca (base64url) para o cliente.
+ */
+public record KeysetCursor(KeysetOrder order, LocalDate value, long id) {
+
+    private static final String VERSION = "v1";
+
+    public String encode() {
+        String raw = VERSION + ":" + order.name() + ":" + (value == null ? "" : value) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException se o cursor for inválido ou de outra ordenação
+     */
+    public static KeysetCursor decode(String token, KeysetOrder expectedOrder) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = raw.split(":", -1);
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        KeysetCursor cursor;
+        try {
+            cursor = new KeysetCursor(
+                    KeysetOrder.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : LocalDate.parse(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (cursor.order() != expectedOrder) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,68 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.model.JobApplication;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Ordenações suportadas pela paginação por cursor. Cada uma é (coluna, id)
+ * na mesma direção e tem um índice composto (user_id, coluna, id) — ver V7.
+ */
+public enum KeysetOrder {
+    APPLIED_DATE_DESC("appliedDate", false, JobApplication::getAppliedDate, JobApplicationSummary::appliedDate),
+    FOLLOW_UP_DATE_ASC("followUpDate", true, JobApplication::getFollowUpDate, JobApplicationSummary::followUpDate);
+
+    private final String property;
+    private final boolean ascending;
+    private final Function<JobApplication, LocalDate> accessor;
+    private final Function<JobApplicationSummary, LocalDate> summaryAccessor;
+
+    KeysetOrder(
+            String property,
+            boolean ascending,
+            Function<JobApplication, LocalDate> accessor,
+            Function<JobApplicationSummary, LocalDate> summaryAccessor
+    ) {
+        this.property = property;
+        this.ascending = ascending;
+        this.accessor = accessor;
+        this.summaryAccessor = summaryAccessor;
+    }
+
+    /**
+     * Cursor apontando para depois de {@code last}.
+     */
+    public KeysetCursor cursorAfter(JobApplication last) {
+        return new KeysetCursor(this, accessor.apply(last), last.getId());
+    }
+
+    public KeysetCursor cursorAfter(JobApplicationSummary last) {
+        return new KeysetCursor(this, summaryAccessor.apply(last), last.id());
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public boolean ascending() {
+        return ascending;
+    }
+
+    /**
+     * Converte o "sort" da requisição (ex: appliedDate,desc). Sem sort, usa appliedDate desc.
+     */
+    public static KeysetOrder fromSort(Sort sort) {
+        if (sort == null || sort.isUnsorted()) return APPLIED_DATE_DESC;
+
+        Sort.Order order = sort.iterator().next();
+        for (KeysetOrder candidate : values()) {
+            if (candidate.property.equals(order.getProperty()) && candidate.ascending == order.isAscending()) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort for cursor pagination: " + order);
+    }
+}
@@ -2,9 +2,17 @@ package com.diego.jobtracker.repository;
 
 import com.diego.jobtracker.model.StatusHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface StatusHistoryRepository extends JpaRepository<StatusHistory, Long> {
     List<StatusHistory> findByApplicationIdAndUserIdOrderByChangedAtDesc(Long applicationId, Long userId);
+
+    // Um DELETE só (no PostgreSQL o FK já tem ON DELETE CASCADE; no H2 com ddl-auto não)
+    @Modifying
+    @Query("delete from StatusHistory h where h.application.id = :applicationId")
+    void deleteByApplicationId(@Param("applicationId") Long applicationId);
 }
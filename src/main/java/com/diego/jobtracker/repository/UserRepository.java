@@ -1,11 +1,22 @@
 package com.diego.jobtracker.repository;
 
+import com.diego.jobtracker.model.CacheRegions;
 import com.diego.jobtracker.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Cache de consulta (email -> id) + entidade na região "users"; invalidado por qualquer escrita em users
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USERS_BY_EMAIL)
+    })
     Optional<User> findByEmail(String email);
+
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,27 @@
+package com.diego.jobtracker.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.Principal;
+
+/**
+ * Principal colocado no SecurityContext pelo {@link JwtAuthenticationFilter},
+ * montado a partir dos claims do token (sem consultar a tabela users).
+ * {@link #getName()} devolve o email, então {@code authentication.getName()} continua valendo.
+ */
+public record AuthenticatedUser(Long id, String email) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public static AuthenticatedUser from(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+    }
+}
@@ -1,6 +1,7 @@
 package com.diego.jobtracker.security;
 
 import com.diego.jobtracker.model.User;
+import com.diego.jobtracker.observability.jfr.UserResolutionEvent;
 import com.diego.jobtracker.repository.UserRepository;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.FilterChain;
@@ -22,15 +23,24 @@ import java.util.List;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /** Atributo da requisição com os {@link TokenClaims} do token aceito (usado no logout). */
+    public static final String TOKEN_CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final TokenRevocationList revocationList;
 
     @Value("${app.auth.cookie.name:jt_session}")
     private String authCookieName;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserRepository userRepository,
+            TokenRevocationList revocationList
+    ) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -46,19 +56,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            String email = jwtService.extractSubject(token);
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userRepository.findByEmail(email).orElse(null);
-                if (user != null && jwtService.isTokenValid(token, user.getEmail())) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    user.getEmail(),
-                                    null,
-                                    List.of(new SimpleGrantedAuthority("ROLE_USER"))
-                            );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                jwtService.verify(token).ifPresent(claims -> authenticate(request, claims));
             }
         } catch (Exception ignored) {
             // Invalid token -> segue sem autenticar.
@@ -67,6 +66,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(HttpServletRequest request, TokenClaims claims) {
+        UserResolutionEvent event = new UserResolutionEvent();
+        event.begin();
+        if (revocationList.isRevoked(claims.tokenId())) {
+            event.finish(0, "revoked");
+            return;
+        }
+
+        Long userId = claims.userId();
+        String source = "claim";
+        if (userId == null) {
+            // Token antigo, sem o claim de id: resolve pelo email uma única vez
+            source = "email-lookup";
+            userId = userRepository.findByEmail(claims.subject()).map(User::getId).orElse(null);
+            if (userId == null) {
+                event.finish(0, "unresolved");
+                return;
+            }
+        } else if (!userRepository.findById(userId).map(User::getEmail).filter(claims.subject()::equals).isPresent()) {
+            // uid e subject precisam ser da mesma conta; a entidade vem do cache L2 (região users)
+            event.finish(0, "mismatch");
+            return;
+        }
+        request.setAttribute(TOKEN_CLAIMS_ATTRIBUTE, claims);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        new AuthenticatedUser(userId, claims.subject()),
+                        null,
+                        List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                );
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        event.finish(userId, source);
+    }
+
     private String extractToken(HttpServletRequest request) {
         String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
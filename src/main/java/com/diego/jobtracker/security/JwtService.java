@@ -1,8 +1,13 @@
 package com.diego.jobtracker.security;
 
+import com.diego.jobtracker.observability.jfr.JwtVerifyEvent;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -10,10 +15,21 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtService {
 
+    static final String USER_ID_CLAIM = "uid";
+
+    private final VerifiedTokenCache tokenCache;
+    // auth.jwt.verify por resultado: cached (só o SHA-256 do cache), verified (HMAC + parse), invalid
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer invalidTimer;
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -21,27 +37,90 @@ public class JwtService {
     private long expirationMs;
 
     private SecretKey signingKey;
+    private JwtParser parser;
+
+    public JwtService(VerifiedTokenCache tokenCache, MeterRegistry meterRegistry) {
+        this.tokenCache = tokenCache;
+        this.cachedTimer = verifyTimer(meterRegistry, "cached");
+        this.verifiedTimer = verifyTimer(meterRegistry, "verified");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.jwt.verify").tag("result", result).register(meterRegistry);
+    }
 
     @PostConstruct
     void init() {
         byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        // JwtParser é imutável e thread-safe: monta uma vez e reaproveita
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
-    public String generateToken(String subject) {
+    public String generateToken(Long userId, String subject) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
+                .claim(USER_ID_CLAIM, userId)
                 .issuedAt(now)
                 .expiration(exp)
                 .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Valida o token (assinatura + expiração) com um único parse.
+     * Tokens já verificados e ainda não expirados vêm do {@link VerifiedTokenCache}.
+     */
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        JwtVerifyEvent event = new JwtVerifyEvent();
+        event.begin();
+        long start = System.nanoTime();
+        TokenClaims cached = tokenCache.get(token);
+        if (cached != null) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.finish("cached");
+            return Optional.of(cached);
+        }
+
+        TokenClaims verified = parse(token);
+        (verified == null ? invalidTimer : verifiedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        event.finish(verified == null ? "invalid" : "verified");
+        if (verified == null) return Optional.empty();
+        tokenCache.put(token, verified);
+        return Optional.of(verified);
+    }
+
+    private TokenClaims parse(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return new TokenClaims(
+                claims.getSubject(),
+                userId == null ? null : userId.longValue(),
+                claims.getId(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
     public String extractSubject(String token) {
-        return extractAllClaims(token).getSubject();
+        return verify(token).map(TokenClaims::subject).orElse(null);
     }
 
     public long getExpirationMs() {
@@ -49,16 +128,8 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, String expectedSubject) {
-        String subject = extractSubject(token);
-        Date exp = extractAllClaims(token).getExpiration();
-        return subject != null && subject.equals(expectedSubject) && exp.after(new Date());
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return verify(token)
+                .map(claims -> claims.subject().equals(expectedSubject))
+                .orElse(false);
     }
 }
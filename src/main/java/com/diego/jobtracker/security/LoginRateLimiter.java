@@ -0,0 +1,110 @@
+package com.diego.jobtracker.security;
+
+import com.diego.jobtracker.exception.RetryLaterException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets por IP e por email na frente de /auth/login e /auth/register, antes
+ * de qualquer consulta ou BCrypt. Sem token = 429 com Retry-After.
+ *
+ * Os buckets ficam num Caffeine limitado (app.auth.rate-limit.max-keys) e somem depois
+ * de 10 min sem uso — nesse tempo um bucket já estaria cheio de novo. Em memória, por
+ * instância. O IP é o getRemoteAddr(): atrás de proxy, configurar server.forward-headers-strategy.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Counter ipRejected;
+    private final Counter emailRejected;
+
+    @Value("${app.auth.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.auth.rate-limit.ip.per-minute:20}")
+    private int ipPerMinute;
+
+    @Value("${app.auth.rate-limit.email.capacity:5}")
+    private int emailCapacity;
+
+    @Value("${app.auth.rate-limit.email.per-minute:5}")
+    private int emailPerMinute;
+
+    @Value("${app.auth.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    private Cache<String, TokenBucket> buckets;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry) {
+        this.ipRejected = Counter.builder("auth.throttled").tag("key", "ip").register(meterRegistry);
+        this.emailRejected = Counter.builder("auth.throttled").tag("key", "email").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * Consome um token do IP e um do email.
+     *
+     * @throws RetryLaterException 429 quando algum dos dois está sem tokens
+     */
+    public void acquire(String clientIp, String email) {
+        take("ip:" + clientIp, ipCapacity, ipPerMinute, ipRejected);
+        if (email != null && !email.isBlank()) {
+            take("email:" + email.trim().toLowerCase(Locale.ROOT), emailCapacity, emailPerMinute, emailRejected);
+        }
+    }
+
+    private void take(String key, int capacity, int perMinute, Counter rejected) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, perMinute));
+        long waitNanos = bucket.tryTake(System.nanoTime());
+        if (waitNanos > 0) {
+            rejected.increment();
+            throw new RetryLaterException(
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many attempts, try again later",
+                    TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1
+            );
+        }
+    }
+
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, int perMinute) {
+            this.capacity = Math.max(1, capacity);
+            this.tokensPerNano = Math.max(1, perMinute) / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = this.capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        /** 0 = token consumido; senão, nanos até o próximo token. */
+        synchronized long tryTake(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.diego.jobtracker.security;
+
+import com.diego.jobtracker.exception.RetryLaterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt (dezenas de ms de CPU por chamada) fora das threads do Tomcat: pool fixo de
+ * app.auth.hashing.threads com fila de app.auth.hashing.queue-size. Fila cheia ou espera
+ * maior que app.auth.hashing.timeout-ms = 503 com Retry-After na hora, então uma rajada
+ * de logins usa no máximo esses núcleos e o resto da API segue respondendo.
+ *
+ * Métricas: auth.password.hash (tempo do BCrypt, por operação), auth.password.queue.wait,
+ * auth.password.rejected (fila cheia/timeout) e os gauges de fila e threads ocupadas.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWait;
+    private final Counter queueFull;
+    private final Counter timeouts;
+
+    @Value("${app.auth.hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.auth.hashing.queue-size:64}")
+    private int queueSize;
+
+    @Value("${app.auth.hashing.timeout-ms:2000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.encodeTimer = hashTimer("encode");
+        this.matchesTimer = hashTimer("matches");
+        this.queueWait = Timer.builder("auth.password.queue.wait")
+                .description("Espera na fila do pool de hash")
+                .register(meterRegistry);
+        this.queueFull = rejectedCounter("queue-full");
+        this.timeouts = rejectedCounter("timeout");
+    }
+
+    @PostConstruct
+    void init() {
+        // 0 = metade dos núcleos: sobra CPU para as requisições autenticadas
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException ex) {
+            queueFull.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            timeouts.increment();
+            throw busy();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private Timer hashTimer(String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("Tempo de BCrypt, sem a espera na fila")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("auth.password.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static RetryLaterException busy() {
+        return new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE, "Authentication is busy, try again shortly", 1);
+    }
+}
@@ -0,0 +1,20 @@
+package com.diego.jobtracker.security;
+
+import java.time.Instant;
+
+/**
+ * Claims de um token já verificado (assinatura e expiração).
+ *
+ * @param userId null para tokens emitidos antes do claim "uid" existir
+ * @param tokenId jti; null para tokens emitidos antes dele existir (não revogáveis)
+ */
+public record TokenClaims(
+        String subject,
+        Long userId,
+        String tokenId,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
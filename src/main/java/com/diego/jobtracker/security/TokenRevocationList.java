@@ -0,0 +1,201 @@
+package com.diego.jobtracker.security;
+
+import com.diego.jobtracker.model.RevokedToken;
+import com.diego.jobtracker.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tokens (jti) revogados no logout, persistidos em revoked_tokens até o "exp" de cada um.
+ *
+ * Toda requisição autenticada passa por {@link #isRevoked(String)}: o caminho comum
+ * (token não revogado) é só um Bloom filter em memória, sem banco e sem lock; só um
+ * positivo (revogado de fato ou falso positivo, ~1%) consulta o set exato. O filtro é
+ * montado do banco no startup e a cada app.jwt.revocation.refresh-ms, que também apaga
+ * os expirados e traz revogações feitas em outras instâncias.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final RevokedTokenRepository repository;
+    private final Object lock = new Object();
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final ScheduledExecutorService refresher =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("token-revocation-refresh").factory());
+
+    // set exato + filtro, trocados juntos no refresh; leitura sem lock
+    private volatile Snapshot snapshot;
+
+    @Value("${app.jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    @Value("${app.jwt.revocation.refresh-ms:60000}")
+    private long refreshMs;
+
+    public TokenRevocationList(RevokedTokenRepository repository) {
+        this.repository = repository;
+    }
+
+    @PostConstruct
+    void start() {
+        // síncrono: nenhuma requisição é atendida antes de as revogações estarem carregadas
+        refresh();
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException ex) {
+                log.warn("Token revocation refresh failed", ex);
+            }
+        }, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    /** Tokens sem jti (emitidos antes do claim existir) não podem ser revogados. */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) return false;
+        Snapshot current = snapshot;
+        if (!current.filter().mightContain(tokenId)) return false;
+
+        bloomPositives.increment();
+        if (!current.revoked().containsKey(tokenId)) {
+            falsePositives.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void revoke(TokenClaims claims) {
+        if (claims.tokenId() == null || claims.userId() == null) return;
+        if (claims.isExpired(Instant.now()) || snapshot.revoked().containsKey(claims.tokenId())) return;
+
+        try {
+            repository.save(new RevokedToken(claims.tokenId(), claims.userId(), claims.expiresAt()));
+        } catch (DataIntegrityViolationException ex) {
+            // já revogado por outra instância
+        }
+        synchronized (lock) {
+            // filtro antes do set: quem passar pelo filtro já acha o jti no set
+            snapshot.filter().add(claims.tokenId());
+            snapshot.revoked().put(claims.tokenId(), claims.expiresAt());
+        }
+    }
+
+    public int size() {
+        return snapshot.revoked().size();
+    }
+
+    public long getBloomPositives() {
+        return bloomPositives.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * Apaga os expirados e remonta set + filtro (Bloom filter não remove) a partir do banco.
+     * Revogações locais ainda válidas entram também, caso o SELECT não tenha visto o commit delas.
+     */
+    void refresh() {
+        Instant now = Instant.now();
+        repository.deleteExpired(now);
+        Map<String, Instant> fresh = new ConcurrentHashMap<>();
+        for (RevokedToken token : repository.findByExpiresAtAfter(now)) {
+            fresh.put(token.getJti(), token.getExpiresAt());
+        }
+
+        synchronized (lock) {
+            if (snapshot != null) {
+                snapshot.revoked().forEach((jti, expiresAt) -> {
+                    if (expiresAt.isAfter(now)) fresh.putIfAbsent(jti, expiresAt);
+                });
+            }
+            BloomFilter filter = new BloomFilter(Math.max(expectedEntries, fresh.size() * 2));
+            fresh.keySet().forEach(filter::add);
+            snapshot = new Snapshot(fresh, filter);
+        }
+    }
+
+    private record Snapshot(Map<String, Instant> revoked, BloomFilter filter) {}
+
+    /**
+     * Bloom filter com ~1% de falsos positivos para n itens: m = -n·ln(0,01)/ln²2 bits,
+     * 7 funções por double hashing de um hash de 64 bits. Leitura lock-free (AtomicLongArray).
+     */
+    private static final class BloomFilter {
+        private static final int HASHES = 7;
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+
+        BloomFilter(int expectedEntries) {
+            long m = (long) Math.ceil(-Math.max(1, expectedEntries) * Math.log(0.01) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.min(Integer.MAX_VALUE / 64, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+        }
+
+        void add(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASHES; i++) {
+                long bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // outra thread mexeu na mesma palavra: tenta de novo
+                }
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASHES; i++) {
+                long bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        // FNV-1a 64 + finalizador do MurmurHash3: o jti é um UUID, curto e aleatório
+        private static long hash(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
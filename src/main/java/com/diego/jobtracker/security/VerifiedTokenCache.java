@@ -0,0 +1,82 @@
+package com.diego.jobtracker.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Cache de tokens cuja assinatura já foi verificada, para que requisições
+ * repetidas com o mesmo cookie de sessão não refaçam o HMAC nem o parse do JSON.
+ *
+ * A chave é o SHA-256 do token (o token em si não fica em memória) e cada
+ * entrada expira no "exp" do próprio token. Caffeine limitado por
+ * app.jwt.cache.max-entries: cheio, sai a entrada menos usada (0 desliga o cache).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${app.jwt.cache.max-entries:10000}")
+    private int maxEntries;
+
+    private Cache<String, TokenClaims> entries;
+
+    @PostConstruct
+    void init() {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfter(Expiry.creating((String key, TokenClaims claims) -> {
+                    Duration ttl = Duration.between(Instant.now(), claims.expiresAt());
+                    return ttl.isNegative() ? Duration.ZERO : ttl;
+                }))
+                .recordStats()
+                .build();
+    }
+
+    public TokenClaims get(String token) {
+        return entries.getIfPresent(digest(token));
+    }
+
+    public void put(String token, TokenClaims claims) {
+        if (maxEntries <= 0) return;
+        entries.put(digest(token), claims);
+    }
+
+    public void invalidate(String token) {
+        entries.invalidate(digest(token));
+    }
+
+    public long getHits() {
+        return entries.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return entries.stats().missCount();
+    }
+
+    public long getEvictions() {
+        return entries.stats().evictionCount();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.ApplicationChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fan-out em memória das alterações de candidaturas para os streams SSE de cada usuário.
+ *
+ * Conexão ociosa não prende thread (SseEmitter = servlet assíncrono). Cada conexão tem
+ * uma fila limitada, drenada por uma virtual thread só enquanto há eventos; um cliente
+ * lento que enche a fila é desconectado e volta pelo Last-Event-ID. Os últimos eventos de
+ * cada usuário ficam guardados para esse replay: se o id pedido já saiu do buffer (ou é de
+ * outro processo) o cliente recebe um RESYNC. Vale para uma instância só, como UserDataVersions.
+ */
+@Component
+public class ApplicationEventHub {
+
+    private final ObjectMapper objectMapper;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-send-", 0).factory());
+    private final ScheduledExecutorService heartbeats =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("sse-heartbeat").factory());
+
+    @Value("${app.events.replay-size:100}")
+    private int replaySize;
+
+    @Value("${app.events.buffer-size:100}")
+    private int bufferSize;
+
+    @Value("${app.events.max-connections-per-user:8}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.events.heartbeat-ms:25000}")
+    private long heartbeatMs;
+
+    @Value("${app.events.retention-ms:300000}")
+    private long retentionMs;
+
+    public ApplicationEventHub(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void start() {
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeats.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::close));
+        channels.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Abre o stream do usuário. Com Last-Event-ID, reenvia o que foi perdido
+     * desde aquele id (ou um RESYNC quando isso não é mais possível).
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> remove(subscriber));
+
+        List<Subscriber> replaced = new ArrayList<>();
+        channels.compute(userId, (id, channel) -> {
+            if (channel == null) channel = new Channel(sequence.get());
+            channel.touch();
+
+            subscriber.offer(Frame.comment("connected"));
+            if (lastEventId != null) channel.replay(lastEventId, subscriber);
+
+            // aba esquecida aberta: a conexão mais antiga cede lugar
+            while (channel.subscribers.size() >= maxConnectionsPerUser) {
+                replaced.add(channel.subscribers.removeFirst());
+            }
+            channel.subscribers.add(subscriber);
+            return channel;
+        });
+        replaced.forEach(Subscriber::close);
+        return emitter;
+    }
+
+    // sobrescrito nos testes por um emitter que registra (ou segura) os envios
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public void publish(Long userId, List<ApplicationChangeEvent> events) {
+        if (events.isEmpty()) return;
+        List<String> payloads = events.stream().map(this::toJson).toList();
+
+        List<Subscriber> overflowed = new ArrayList<>();
+        channels.computeIfPresent(userId, (id, channel) -> {
+            channel.touch();
+            for (String payload : payloads) {
+                // sequência atribuída dentro do compute: ordem garantida por usuário
+                Frame frame = Frame.event(sequence.incrementAndGet(), payload);
+                channel.retain(frame);
+                channel.subscribers.removeIf(subscriber -> {
+                    if (subscriber.offer(frame)) return false;
+                    overflowed.add(subscriber);
+                    return true;
+                });
+            }
+            return channel;
+        });
+        overflowed.forEach(Subscriber::close);
+    }
+
+    private void heartbeat() {
+        long idleCutoff = System.currentTimeMillis() - retentionMs;
+        List<Subscriber> overflowed = new ArrayList<>();
+        for (Long userId : channels.keySet()) {
+            channels.computeIfPresent(userId, (id, channel) -> {
+                if (channel.subscribers.isEmpty()) {
+                    return channel.lastActivity < idleCutoff ? null : channel;
+                }
+                channel.subscribers.removeIf(subscriber -> {
+                    if (subscriber.offer(Frame.comment("keep-alive"))) return false;
+                    overflowed.add(subscriber);
+                    return true;
+                });
+                return channel;
+            });
+        }
+        overflowed.forEach(Subscriber::close);
+    }
+
+    private void remove(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.userId, (id, channel) -> {
+            if (channel.subscribers.remove(subscriber)) channel.touch();
+            return channel;
+        });
+    }
+
+    private String toJson(ApplicationChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    /** Id no formato epoch-sequência; null se for de outro processo ou inválido. */
+    private Long parseEventId(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash < 0 || !eventId.substring(0, dash).equals(epoch)) return null;
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private record Frame(long seq, String data, String comment) {
+        static Frame event(long seq, String data) {
+            return new Frame(seq, data, null);
+        }
+
+        static Frame comment(String text) {
+            return new Frame(0, null, text);
+        }
+    }
+
+    /** Estado de um usuário; só é alterado dentro de channels.compute (lock por chave). */
+    private final class Channel {
+        private final ArrayDeque<Frame> recent = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        // tudo até esta sequência não está mais no buffer (ou nunca passou por aqui)
+        private long forgottenUpTo;
+        private long lastActivity;
+
+        private Channel(long forgottenUpTo) {
+            this.forgottenUpTo = forgottenUpTo;
+        }
+
+        void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+
+        void retain(Frame frame) {
+            recent.addLast(frame);
+            while (recent.size() > replaySize) {
+                forgottenUpTo = recent.removeFirst().seq();
+            }
+        }
+
+        void replay(String lastEventId, Subscriber subscriber) {
+            Long lastSeq = parseEventId(lastEventId);
+            List<Frame> missed = lastSeq == null || lastSeq < forgottenUpTo
+                    ? null
+                    : recent.stream().filter(frame -> frame.seq() > lastSeq).toList();
+
+            if (missed == null || missed.size() >= bufferSize) {
+                // o id do RESYNC marca o ponto a partir do qual o cliente recarregou
+                subscriber.offer(Frame.event(sequence.get(), toJson(ApplicationChangeEvent.resync())));
+                return;
+            }
+            missed.forEach(subscriber::offer);
+        }
+    }
+
+    private final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Frame> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /** Enfileira sem bloquear; false = fila cheia (cliente lento). */
+        boolean offer(Frame frame) {
+            if (!queue.offer(frame)) return false;
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+            return true;
+        }
+
+        private void drain() {
+            try {
+                do {
+                    Frame frame;
+                    while ((frame = queue.poll()) != null) {
+                        emitter.send(toEvent(frame));
+                    }
+                    draining.set(false);
+                } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException ex) {
+                // conexão caiu ou emitter já encerrado: draining fica true, nada mais é enviado
+                queue.clear();
+                remove(this);
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toEvent(Frame frame) {
+            if (frame.data() == null) {
+                return SseEmitter.event().comment(frame.comment());
+            }
+            return SseEmitter.event().id(eventId(frame.seq())).data(frame.data());
+        }
+
+        void close() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // já encerrado
+            }
+        }
+    }
+}
@@ -7,8 +7,8 @@ import com.diego.jobtracker.dto.auth.RegisterRequest;
 import com.diego.jobtracker.dto.auth.UpdateMeRequest;
 import com.diego.jobtracker.model.User;
 import com.diego.jobtracker.repository.UserRepository;
+import com.diego.jobtracker.security.PasswordHasher;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -16,14 +16,14 @@ import org.springframework.web.server.ResponseStatusException;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
     public AuthService(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder
+            PasswordHasher passwordHasher
     ) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
 
     public AuthResponse register(RegisterRequest request) {
@@ -35,7 +35,7 @@ public class AuthService {
         User user = new User();
         user.setName(request.name().trim());
         user.setEmail(email);
-        user.setPasswordHash(passwordEncoder.encode(request.password()));
+        user.setPasswordHash(passwordHasher.encode(request.password()));
         user.setLanguage("pt");
         user.setTheme("light");
         user.setSidebarVisible(true);
@@ -49,21 +49,21 @@ public class AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials"));
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.password(), user.getPasswordHash())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
         }
 
         return toAuthResponse(user);
     }
 
-    public AuthUserResponse me(String email) {
-        User user = userRepository.findByEmail(normalizeEmail(email))
+    public AuthUserResponse me(Long userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
         return AuthUserResponse.fromUser(user);
     }
 
-    public AuthUserResponse updateMe(String email, UpdateMeRequest request) {
-        User user = userRepository.findByEmail(normalizeEmail(email))
+    public AuthUserResponse updateMe(Long userId, UpdateMeRequest request) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
 
         if (request.name() != null) {
@@ -107,7 +107,7 @@ public class AuthService {
         return new AuthResponse(AuthUserResponse.fromUser(user));
     }
 
-    private String normalizeEmail(String email) {
+    static String normalizeEmail(String email) {
         return email == null ? "" : email.trim().toLowerCase();
     }
 }
@@ -0,0 +1,90 @@
+package com.diego.jobtracker.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitura/escrita de CSV (RFC 4180) em streaming, um registro por vez,
+ * no mesmo formato gerado pelo export do front.
+ */
+final class CsvSupport {
+
+    private CsvSupport() {
+    }
+
+    /**
+     * Lê o próximo registro do reader (campos entre aspas podem conter vírgula e quebra de linha).
+     * Retorna null no fim do arquivo.
+     *
+     * @throws RecordTooLongException registro com mais de maxChars caracteres; o resto dele
+     *         é consumido sem ficar em memória (aspas sem fechar = até o fim do arquivo)
+     */
+    static List<String> readRecord(BufferedReader reader, int maxChars) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean readAny = false;
+        boolean tooLong = false;
+        int length = 0;
+
+        int ch;
+        while ((ch = reader.read()) != -1) {
+            readAny = true;
+            char c = (char) ch;
+            if (!tooLong && ++length > maxChars) {
+                tooLong = true;
+                fields = new ArrayList<>();
+                field = new StringBuilder();
+            }
+            if (tooLong && field.length() > 0) field.setLength(0);
+
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) reader.reset();
+                    }
+                } else {
+                    field.append(c);
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                if (!tooLong) fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                if (tooLong) throw new RecordTooLongException(maxChars);
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+
+        if (!readAny) return null;
+        if (tooLong) throw new RecordTooLongException(maxChars);
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    static String cell(Object value) {
+        String raw = value == null ? "" : value.toString();
+        if (raw.indexOf('"') < 0 && raw.indexOf(',') < 0 && raw.indexOf('\n') < 0 && raw.indexOf('\r') < 0) {
+            return raw;
+        }
+        return '"' + raw.replace("\"", "\"\"") + '"';
+    }
+}
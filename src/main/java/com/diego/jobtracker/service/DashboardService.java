@@ -0,0 +1,160 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.ApplicationStatsResponse;
+import com.diego.jobtracker.dto.DashboardResponse;
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.observability.SqlStatementStats;
+import com.diego.jobtracker.repository.JobApplicationFilter;
+import com.diego.jobtracker.repository.KeysetOrder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Monta o dashboard rodando as seções em paralelo, uma virtual thread por seção.
+ *
+ * Cada seção abre a própria transação read-only (= uma conexão do pool); o
+ * semáforo por requisição limita quantas conexões um dashboard usa ao mesmo
+ * tempo (app.dashboard.connection-budget). Se uma seção falha ou o prazo
+ * estoura, as demais são canceladas e o executor só fecha quando todas terminam.
+ * Interromper a thread não para um statement JDBC, então o que resta do prazo vira o
+ * timeout da transação da seção: o driver cancela a consulta e a conexão volta ao pool.
+ */
+@Service
+public class DashboardService {
+
+    private static final int LIST_SIZE = 5;
+
+    private final JobApplicationService applicationService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.dashboard.connection-budget:2}")
+    private int connectionBudget;
+
+    @Value("${app.dashboard.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public DashboardService(JobApplicationService applicationService, PlatformTransactionManager transactionManager) {
+        this.applicationService = applicationService;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * @param timings duração de cada seção (ms), na ordem das seções — para o header Server-Timing
+     */
+    public record Result(DashboardResponse body, Map<String, Double> timings) {}
+
+    public Result load(Long userId, LocalDate today) {
+        Semaphore budget = new Semaphore(Math.max(1, connectionBudget));
+        Map<String, Double> timings = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Section<ApplicationStatsResponse>> stats = executor.submit(section(
+                    "stats", budget, deadline, () -> applicationService.stats(userId, today)
+            ));
+            Future<Section<List<JobApplicationSummary>>> recent = executor.submit(section(
+                    "recent", budget, deadline, () -> applicationService
+                            .listSummariesByCursor(JobApplicationFilter.forUser(userId), KeysetOrder.APPLIED_DATE_DESC, null, LIST_SIZE)
+                            .getContent()
+            ));
+            Future<Section<List<JobApplicationSummary>>> dueFollowUps = executor.submit(section(
+                    "followups", budget, deadline, () -> applicationService
+                            .followUps(userId, today, false, LIST_SIZE)
+                            .items()
+            ));
+
+            awaitAll(List.of(stats, recent, dueFollowUps), deadline);
+
+            DashboardResponse body = new DashboardResponse(
+                    collect(stats, timings),
+                    collect(recent, timings),
+                    collect(dueFollowUps, timings)
+            );
+            return new Result(body, timings);
+        }
+    }
+
+    private record Section<T>(String name, T value, double millis) {}
+
+    private <T> Callable<Section<T>> section(String name, Semaphore budget, long deadline, Supplier<T> query) {
+        // statements das seções contam na requisição que abriu o dashboard
+        return SqlStatementStats.propagate(() -> {
+            budget.acquire();
+            try {
+                long start = System.nanoTime();
+                T value = withinDeadline(deadline).execute(status -> query.get());
+                return new Section<>(name, value, (System.nanoTime() - start) / 1_000_000.0);
+            } finally {
+                budget.release();
+            }
+        });
+    }
+
+    /**
+     * Transação read-only com o que resta do prazo (em segundos, arredondado para cima:
+     * é a granularidade do query timeout do JDBC); as transações do JobApplicationService
+     * participam dela e os statements herdam o timeout.
+     */
+    private TransactionTemplate withinDeadline(long deadline) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMs <= 0) {
+            throw new TransactionTimedOutException("Dashboard deadline already reached");
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) ((remainingMs + 999) / 1000));
+        return template;
+    }
+
+    /**
+     * Espera todas as seções dentro do prazo; na primeira falha cancela as outras.
+     */
+    private void awaitAll(List<Future<?>> futures, long deadline) {
+        try {
+            for (Future<?> future : futures) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (ExecutionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof QueryTimeoutException || ex.getCause() instanceof TransactionTimedOutException) {
+                // o statement da seção foi cancelado pelo prazo
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Dashboard timed out");
+            }
+            if (ex.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Dashboard timed out");
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Dashboard interrupted");
+        }
+    }
+
+    private static <T> T collect(Future<Section<T>> future, Map<String, Double> timings) {
+        Section<T> section = future.resultNow();
+        timings.put(section.name(), section.millis());
+        return section.value();
+    }
+}
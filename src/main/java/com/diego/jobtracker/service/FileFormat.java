@@ -0,0 +1,21 @@
+package com.diego.jobtracker.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Formatos aceitos pelo import/export em massa de candidaturas.
+ */
+public enum FileFormat {
+    CSV,
+    NDJSON;
+
+    public static Optional<FileFormat> fromParam(String value) {
+        if (value == null) return Optional.empty();
+        try {
+            return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
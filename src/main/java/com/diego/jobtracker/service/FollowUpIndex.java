@@ -0,0 +1,248 @@
+package com.diego.jobtracker.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Datas de follow-up por usuário em memória: contagem de vencidos/para hoje e
+ * "próximos N" sem consulta ao banco.
+ *
+ * Por usuário, um bucket por dia (ids ordenados) e a quantidade de ids antes do
+ * último dia consultado; a virada do dia é preguiçosa, na primeira consulta com um
+ * "hoje" novo (soma só os buckets dos dias que passaram). As escritas entram depois
+ * do commit (services). O índice é reconstruído do banco no startup dentro de
+ * app.followups.rebuild-budget-ms; até lá (ou se estourar) {@link #isReady()} é
+ * false e os services consultam o banco. Vale para uma instância só, como UserDataVersions.
+ */
+@Component
+public class FollowUpIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowUpIndex.class);
+
+    private static final String REBUILD_SQL = """
+            SELECT user_id, id, follow_up_date
+            FROM job_applications
+            WHERE follow_up_date IS NOT NULL
+            """;
+
+    private final DataSource dataSource;
+    private final Object lock = new Object();
+
+    private volatile Map<Long, UserFollowUps> users = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    // escritas confirmadas durante um rebuild, reaplicadas por cima do snapshot (guardado por lock)
+    private List<Change> pending;
+
+    @Value("${app.followups.rebuild-budget-ms:10000}")
+    private long rebuildBudgetMs;
+
+    public FollowUpIndex(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public record Counts(long due, long overdue) {}
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Registra a data de follow-up (null = sem follow-up) das candidaturas;
+     * dentro de uma transação, só vale depois do commit.
+     */
+    public void set(Long userId, Map<Long, LocalDate> followUpDates) {
+        if (followUpDates.isEmpty()) return;
+        List<Change> changes = new ArrayList<>(followUpDates.size());
+        followUpDates.forEach((id, date) -> changes.add(new Change(userId, id, date)));
+        afterCommit(changes);
+    }
+
+    public void set(Long userId, Long applicationId, LocalDate followUpDate) {
+        afterCommit(List.of(new Change(userId, applicationId, followUpDate)));
+    }
+
+    public void remove(Long userId, Collection<Long> applicationIds) {
+        afterCommit(applicationIds.stream().map(id -> new Change(userId, id, null)).toList());
+    }
+
+    /** due = follow-up até hoje (inclusive); overdue = antes de hoje. */
+    public Counts counts(Long userId, LocalDate today) {
+        UserFollowUps followUps = users.get(userId);
+        return followUps == null ? new Counts(0, 0) : followUps.counts(today);
+    }
+
+    /** Primeiros ids na ordem (followUpDate, id): até hoje ou, com overdueOnly, antes de hoje. */
+    public List<Long> firstDue(Long userId, LocalDate today, boolean overdueOnly, int limit) {
+        UserFollowUps followUps = users.get(userId);
+        return followUps == null ? List.of() : followUps.first(today, !overdueOnly, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuildOnStartup() {
+        Thread.ofVirtual().name("followup-index-rebuild").start(this::rebuild);
+    }
+
+    void rebuild() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        long start = System.nanoTime();
+        long deadline = start + rebuildBudgetMs * 1_000_000;
+        Map<Long, UserFollowUps> fresh = new ConcurrentHashMap<>();
+        long[] rows = {0};
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.setFetchSize(1000);
+        jdbc.setQueryTimeout((int) Math.max(1, rebuildBudgetMs / 1000));
+        try {
+            jdbc.query(REBUILD_SQL, rs -> {
+                if ((++rows[0] & 1023) == 0 && System.nanoTime() > deadline) {
+                    throw new BudgetExceeded();
+                }
+                fresh.computeIfAbsent(rs.getLong(1), id -> new UserFollowUps())
+                        .set(rs.getLong(2), rs.getObject(3, LocalDate.class));
+            });
+        } catch (RuntimeException ex) {
+            synchronized (lock) {
+                pending = null;
+            }
+            if (ex instanceof BudgetExceeded) {
+                log.warn("Follow-up index rebuild did not finish within {} ms ({} rows read)",
+                        rebuildBudgetMs, rows[0]);
+            } else {
+                log.warn("Follow-up index rebuild failed", ex);
+            }
+            return;
+        }
+
+        synchronized (lock) {
+            pending.forEach(change -> apply(fresh, change));
+            pending = null;
+            users = fresh;
+            ready = true;
+        }
+        log.info("Follow-up index rebuilt: {} follow-ups, {} users in {} ms",
+                rows[0], fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void afterCommit(List<Change> changes) {
+        if (changes.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changes.forEach(this::apply);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changes.forEach(FollowUpIndex.this::apply);
+            }
+        });
+    }
+
+    // set/remove são absolutos: aplicar duas vezes (snapshot + pendentes) não muda o resultado
+    private void apply(Change change) {
+        synchronized (lock) {
+            if (pending != null) pending.add(change);
+        }
+        if (ready) apply(users, change);
+    }
+
+    private static void apply(Map<Long, UserFollowUps> target, Change change) {
+        // dentro do compute: usuário sem follow-ups sai do mapa sem corrida com um set concorrente
+        target.compute(change.userId(), (id, followUps) -> {
+            if (followUps == null) {
+                if (change.followUpDate() == null) return null;
+                followUps = new UserFollowUps();
+            }
+            followUps.set(change.applicationId(), change.followUpDate());
+            return followUps.isEmpty() ? null : followUps;
+        });
+    }
+
+    private record Change(Long userId, Long applicationId, LocalDate followUpDate) {}
+
+    private static final class BudgetExceeded extends RuntimeException {
+        BudgetExceeded() {
+            super("rebuild budget exceeded", null, false, false);
+        }
+    }
+
+    private static final class UserFollowUps {
+        private final TreeMap<LocalDate, TreeSet<Long>> byDay = new TreeMap<>();
+        private final Map<Long, LocalDate> dayById = new HashMap<>();
+        // quantos ids têm follow-up antes de settledDay
+        private LocalDate settledDay = LocalDate.MIN;
+        private long beforeSettled;
+
+        synchronized void set(Long id, LocalDate day) {
+            LocalDate previous = day == null ? dayById.remove(id) : dayById.put(id, day);
+            if (Objects.equals(previous, day)) return;
+
+            if (previous != null) {
+                TreeSet<Long> ids = byDay.get(previous);
+                ids.remove(id);
+                if (ids.isEmpty()) byDay.remove(previous);
+                if (previous.isBefore(settledDay)) beforeSettled--;
+            }
+            if (day != null) {
+                byDay.computeIfAbsent(day, d -> new TreeSet<>()).add(id);
+                if (day.isBefore(settledDay)) beforeSettled++;
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return dayById.isEmpty();
+        }
+
+        synchronized Counts counts(LocalDate today) {
+            long overdue = before(today);
+            TreeSet<Long> dueToday = byDay.get(today);
+            return new Counts(overdue + (dueToday == null ? 0 : dueToday.size()), overdue);
+        }
+
+        synchronized List<Long> first(LocalDate today, boolean includeToday, int limit) {
+            List<Long> ids = new ArrayList<>(limit);
+            for (TreeSet<Long> day : byDay.headMap(today, includeToday).values()) {
+                for (Long id : day) {
+                    if (ids.size() == limit) return ids;
+                    ids.add(id);
+                }
+            }
+            return ids;
+        }
+
+        private long before(LocalDate today) {
+            if (today.isBefore(settledDay)) {
+                // "hoje" voltou (relógio/fuso): recomeça do zero
+                settledDay = LocalDate.MIN;
+                beforeSettled = 0;
+            }
+            if (today.isAfter(settledDay)) {
+                for (TreeSet<Long> ids : byDay.subMap(settledDay, true, today, false).values()) {
+                    beforeSettled += ids.size();
+                }
+                settledDay = today;
+            }
+            return beforeSettled;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.BulkMutationRequest;
+import com.diego.jobtracker.dto.BulkMutationResponse;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.model.StatusHistory;
+import com.diego.jobtracker.observability.jfr.StatusChangeEvent;
+import com.diego.jobtracker.repository.EntityIdAllocator;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Alterações em massa (multi-seleção / kanban) com SQL por conjunto:
+ * um SELECT ... FOR UPDATE para saber quais linhas são do usuário,
+ * um UPDATE/DELETE com IN (...) e, para status, um único lote de status_history.
+ */
+@Service
+public class JobApplicationBulkService {
+
+    private static final String INSERT_STATUS_HISTORY_SQL = """
+            INSERT INTO status_history (id, application_id, user_id, from_status, to_status, changed_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_TOMBSTONE_SQL = """
+            INSERT INTO application_tombstones (application_id, user_id, deleted_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+    private final EntityManagerFactory entityManagerFactory;
+    private final FollowUpIndex followUpIndex;
+
+    @Value("${app.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    public JobApplicationBulkService(
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            JdbcTemplate jdbcTemplate,
+            EntityIdAllocator idAllocator,
+            EntityManagerFactory entityManagerFactory,
+            FollowUpIndex followUpIndex
+    ) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.entityManagerFactory = entityManagerFactory;
+        this.followUpIndex = followUpIndex;
+    }
+
+    @Transactional
+    public BulkMutationResponse apply(Long userId, BulkMutationRequest request) {
+        List<Long> ids = request.ids().stream().distinct().toList();
+        List<Long> affected = switch (request.operation()) {
+            case SET_STATUS -> setStatus(userId, ids, require(request.status(), "status"));
+            case SET_PRIORITY -> {
+                String priority = require(request.priority(), "priority").name();
+                yield set(userId, ids, "priority", priority, Types.VARCHAR);
+            }
+            case SET_FOLLOW_UP_DATE -> {
+                List<Long> updated = set(userId, ids, "follow_up_date", request.followUpDate(), Types.DATE);
+                if (request.followUpDate() == null) {
+                    followUpIndex.remove(userId, updated);
+                } else {
+                    followUpIndex.set(userId, updated.stream()
+                            .collect(Collectors.toMap(Function.identity(), id -> request.followUpDate())));
+                }
+                yield updated;
+            }
+            case DELETE -> {
+                List<Long> deleted = delete(userId, List.copyOf(lockOwned(userId, ids, null, null, Types.NULL).keySet()));
+                followUpIndex.remove(userId, deleted);
+                yield deleted;
+            }
+        };
+        evictFromSecondLevelCache(affected);
+        return new BulkMutationResponse(request.operation(), affected);
+    }
+
+    /**
+     * O SQL daqui não passa pelo Hibernate, então as entidades alteradas saem do
+     * cache de segundo nível na hora e de novo depois do commit (uma leitura
+     * concorrente pode ter recolocado a versão antiga no meio).
+     */
+    private void evictFromSecondLevelCache(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(JobApplication.class, id));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ids.forEach(id -> cache.evict(JobApplication.class, id));
+            }
+        });
+    }
+
+    private List<Long> setStatus(Long userId, List<Long> ids, ApplicationStatus toStatus) {
+        // Só as linhas que realmente mudam geram UPDATE e histórico
+        Map<Long, String> previous = lockOwned(userId, ids, "status", toStatus.name(), Types.VARCHAR);
+        List<Long> changed = update(userId, previous, "status", toStatus.name(), Types.VARCHAR);
+        if (changed.isEmpty()) return changed;
+
+        StatusChangeEvent event = new StatusChangeEvent();
+        event.begin();
+        List<Long> historyIds = changed.stream().map(id -> idAllocator.nextId(StatusHistory.class)).toList();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_STATUS_HISTORY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Long id = changed.get(i);
+                ps.setLong(1, historyIds.get(i));
+                ps.setLong(2, id);
+                ps.setLong(3, userId);
+                ps.setString(4, previous.get(id));
+                ps.setString(5, toStatus.name());
+                ps.setObject(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changed.size();
+            }
+        });
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.toStatus = toStatus.name();
+            event.count = changed.size();
+            event.commit();
+        }
+        return changed;
+    }
+
+    /** UPDATE de uma coluna só nas linhas do usuário que ainda não têm o valor pedido. */
+    private List<Long> set(Long userId, List<Long> ids, String column, Object value, int sqlType) {
+        return update(userId, lockOwned(userId, ids, column, value, sqlType), column, value, sqlType);
+    }
+
+    /**
+     * Trava as linhas do usuário entre {@code ids} (id -> status atual), na ordem pedida.
+     * Com {@code column}, ignora as que já têm {@code value} nela (null incluído).
+     */
+    private Map<Long, String> lockOwned(Long userId, List<Long> ids, String column, Object value, int sqlType) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("ids", ids);
+        String sql = "SELECT id, status FROM job_applications WHERE user_id = :userId AND id IN (:ids)";
+        if (column != null) {
+            sql += " AND " + column + " IS DISTINCT FROM :unchanged";
+            params.addValue("unchanged", value, sqlType);
+        }
+
+        Map<Long, String> found = new LinkedHashMap<>();
+        namedJdbcTemplate.query(sql + " ORDER BY id FOR UPDATE", params,
+                rs -> { found.put(rs.getLong("id"), rs.getString("status")); });
+
+        Map<Long, String> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            String status = found.get(id);
+            if (status != null) ordered.put(id, status);
+        }
+        return ordered;
+    }
+
+    private List<Long> update(Long userId, Map<Long, String> owned, String column, Object value, int sqlType) {
+        List<Long> ids = List.copyOf(owned.keySet());
+        if (ids.isEmpty()) return ids;
+
+        namedJdbcTemplate.update(
+                "UPDATE job_applications SET " + column + " = :value, updated_at = :now"
+                        + " WHERE user_id = :userId AND id IN (:ids)",
+                new MapSqlParameterSource()
+                        .addValue("value", value, sqlType)
+                        .addValue("now", LocalDateTime.now())
+                        .addValue("userId", userId)
+                        .addValue("ids", ids)
+        );
+        return ids;
+    }
+
+    private List<Long> delete(Long userId, List<Long> ids) {
+        if (ids.isEmpty()) return ids;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("ids", ids);
+        // No PostgreSQL o FK já é ON DELETE CASCADE; explícito para valer também no H2 (ddl-auto)
+        namedJdbcTemplate.update(
+                "DELETE FROM status_history WHERE user_id = :userId AND application_id IN (:ids)",
+                params
+        );
+        namedJdbcTemplate.update(
+                "DELETE FROM job_applications WHERE user_id = :userId AND id IN (:ids)",
+                params
+        );
+
+        // Tombstones para GET /applications/changes (e limpeza das que já passaram da retenção)
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, ids.get(i));
+                ps.setLong(2, userId);
+                ps.setObject(3, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+        jdbcTemplate.update(
+                "DELETE FROM application_tombstones WHERE user_id = ? AND deleted_at < ?",
+                userId, now.minus(tombstoneRetention)
+        );
+        return ids;
+    }
+
+    private static <T> T require(T value, String field) {
+        if (value == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " is required for this operation");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.repository.JobApplicationFilter;
+import com.diego.jobtracker.repository.JobApplicationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Export de candidaturas em streaming: as linhas vêm de um cursor JDBC
+ * (fetch size fixo) e cada entidade é desanexada logo após ser escrita,
+ * então o heap não cresce com o número de candidaturas do usuário.
+ */
+@Service
+public class JobApplicationExportService {
+
+    private static final String CSV_HEADER =
+            "company,role,status,priority,appliedDate,followUpDate,salary,jobUrl,notes";
+
+    private final JobApplicationRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public JobApplicationExportService(
+            JobApplicationRepository repository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper
+    ) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Com {@code query} (mesma busca de GET /applications?q=) as linhas saem por relevância;
+     * sem ela, por appliedDate desc.
+     */
+    @Transactional(readOnly = true)
+    public void export(JobApplicationFilter filter, String query, FileFormat format, OutputStream output)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == FileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<JobApplication> rows = query == null || query.isBlank()
+                ? repository.streamForExport(filter)
+                : repository.streamSearch(filter, query)) {
+            rows.forEach(app -> {
+                try {
+                    if (format == FileFormat.CSV) {
+                        writeCsvLine(writer, app);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(app));
+                        writer.write('\n');
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                entityManager.detach(app);
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void writeCsvLine(Writer writer, JobApplication app) throws IOException {
+        writer.write(CsvSupport.cell(app.getCompany()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getRole()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getStatus()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getPriority()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getAppliedDate()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getFollowUpDate()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getSalary()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getJobUrl()));
+        writer.write(',');
+        writer.write(CsvSupport.cell(app.getNotes()));
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,453 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.BulkImportRowResult;
+import com.diego.jobtracker.dto.BulkImportSummary;
+import com.diego.jobtracker.dto.UpsertJobApplicationRequest;
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.model.StatusHistory;
+import com.diego.jobtracker.repository.EntityIdAllocator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Import em massa de candidaturas (CSV ou NDJSON) lido em streaming.
+ * As linhas válidas são gravadas em lotes JDBC, um lote por transação,
+ * então a memória usada depende só de app.import.batch-size e do tamanho máximo
+ * de um registro (app.import.max-record-chars; acima dele a linha é rejeitada). Se o lote falha no
+ * banco, ele é refeito linha a linha e só as linhas com erro são rejeitadas.
+ */
+@Service
+public class JobApplicationImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobApplicationImportService.class);
+
+    private static final String INSERT_APPLICATION_SQL = """
+            INSERT INTO job_applications
+                (id, company, role, status, priority, applied_date, follow_up_date, notes, job_url, salary, user_id, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_STATUS_HISTORY_SQL = """
+            INSERT INTO status_history (id, application_id, user_id, from_status, to_status, changed_at)
+            VALUES (?, ?, ?, NULL, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityIdAllocator idAllocator;
+    private final FollowUpIndex followUpIndex;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.import.max-record-chars:65536}")
+    private int maxRecordChars;
+
+    public JobApplicationImportService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            EntityIdAllocator idAllocator,
+            FollowUpIndex followUpIndex
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.idAllocator = idAllocator;
+        this.followUpIndex = followUpIndex;
+    }
+
+    /**
+     * Lê o arquivo linha a linha e publica o resultado de cada linha em {@code results},
+     * na ordem do arquivo, assim que o lote correspondente é confirmado.
+     */
+    public BulkImportSummary importApplications(
+            Long userId,
+            FileFormat format,
+            InputStream input,
+            Consumer<BulkImportRowResult> results
+    ) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        skipByteOrderMark(reader);
+
+        RowSource source = format == FileFormat.CSV ? csvSource(reader) : ndjsonSource(reader);
+        Chunk chunk = new Chunk(userId, results);
+
+        ParsedRow row;
+        while ((row = source.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() >= batchSize) {
+                chunk.flush();
+            }
+        }
+        chunk.flush();
+
+        return new BulkImportSummary(chunk.accepted, chunk.rejected);
+    }
+
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        List<String> header;
+        try {
+            header = CsvSupport.readRecord(reader, maxRecordChars);
+        } catch (RecordTooLongException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header is too long");
+        }
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV file is empty");
+        }
+
+        CsvColumns columns = CsvColumns.fromHeader(header);
+        if (columns.company < 0 || columns.role < 0 || columns.status < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must contain company, role and status");
+        }
+
+        long[] rowNumber = {0};
+        return () -> {
+            List<String> record;
+            do {
+                try {
+                    record = CsvSupport.readRecord(reader, maxRecordChars);
+                } catch (RecordTooLongException ex) {
+                    return tooLong(++rowNumber[0], ex);
+                }
+                if (record == null) return null;
+            } while (CsvSupport.isBlank(record));
+
+            rowNumber[0]++;
+            return parseCsvRow(rowNumber[0], record, columns);
+        };
+    }
+
+    private RowSource ndjsonSource(BufferedReader reader) {
+        long[] rowNumber = {0};
+        return () -> {
+            String line;
+            do {
+                try {
+                    line = readLine(reader, maxRecordChars);
+                } catch (RecordTooLongException ex) {
+                    return tooLong(++rowNumber[0], ex);
+                }
+                if (line == null) return null;
+            } while (line.isBlank());
+
+            rowNumber[0]++;
+            return parseJsonRow(rowNumber[0], line);
+        };
+    }
+
+    /**
+     * Como BufferedReader.readLine(), mas sem guardar mais que maxChars: uma linha enorme
+     * (ou um arquivo sem quebra de linha) é consumida até o '\n' e vira RecordTooLongException.
+     */
+    private static String readLine(BufferedReader reader, int maxChars) throws IOException {
+        StringBuilder line = new StringBuilder();
+        boolean tooLong = false;
+        int ch;
+        while ((ch = reader.read()) != -1 && ch != '\n') {
+            if (line.length() < maxChars) {
+                line.append((char) ch);
+            } else {
+                tooLong = true;
+            }
+        }
+        if (tooLong) throw new RecordTooLongException(maxChars);
+        if (ch == -1 && line.isEmpty()) return null;
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\r') line.setLength(end - 1);
+        return line.toString();
+    }
+
+    private static ParsedRow tooLong(long row, RecordTooLongException ex) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        errors.put("body", ex.getMessage());
+        return new ParsedRow(row, null, errors);
+    }
+
+    private ParsedRow parseCsvRow(long row, List<String> record, CsvColumns columns) {
+        Map<String, String> errors = new LinkedHashMap<>();
+
+        ApplicationStatus status = parseEnum(ApplicationStatus.class, "status", cell(record, columns.status), errors);
+        ApplicationPriority priority = parseEnum(ApplicationPriority.class, "priority", cell(record, columns.priority), errors);
+        LocalDate appliedDate = parseDate("appliedDate", cell(record, columns.appliedDate), errors);
+        LocalDate followUpDate = parseDate("followUpDate", cell(record, columns.followUpDate), errors);
+
+        UpsertJobApplicationRequest request = new UpsertJobApplicationRequest(
+                cell(record, columns.company),
+                cell(record, columns.role),
+                status,
+                priority,
+                appliedDate,
+                followUpDate,
+                cell(record, columns.notes),
+                cell(record, columns.jobUrl),
+                cell(record, columns.salary)
+        );
+        return validate(row, request, errors);
+    }
+
+    private ParsedRow parseJsonRow(long row, String line) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        try {
+            UpsertJobApplicationRequest request = objectMapper.readValue(line, UpsertJobApplicationRequest.class);
+            if (request != null) {
+                return validate(row, request, errors);
+            }
+            errors.put("body", "invalid JSON");
+        } catch (JsonMappingException ex) {
+            String field = ex.getPath().isEmpty() ? null : ex.getPath().get(ex.getPath().size() - 1).getFieldName();
+            errors.put(field == null ? "body" : field, field == null ? "invalid JSON" : "invalid value");
+        } catch (JsonProcessingException ex) {
+            errors.put("body", "invalid JSON");
+        }
+        return new ParsedRow(row, null, errors);
+    }
+
+    private ParsedRow validate(long row, UpsertJobApplicationRequest request, Map<String, String> errors) {
+        for (ConstraintViolation<UpsertJobApplicationRequest> violation : validator.validate(request)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return new ParsedRow(row, errors.isEmpty() ? request : null, errors);
+    }
+
+    private List<Long> insertChunk(Long userId, List<ParsedRow> rows) {
+        // Ids do gerador pooled (1 nextval a cada 50): sem ler chaves geradas de volta
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<Long> historyIds = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ids.add(idAllocator.nextId(JobApplication.class));
+            historyIds.add(idAllocator.nextId(StatusHistory.class));
+        }
+
+        // Mesmo carimbo do @PrePersist da entidade (GET /applications/changes lê por updated_at)
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_APPLICATION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                UpsertJobApplicationRequest body = rows.get(i).request();
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, body.company().trim());
+                ps.setString(3, body.role().trim());
+                ps.setString(4, body.status().name());
+                ps.setString(5, (body.priority() == null ? ApplicationPriority.MEDIUM : body.priority()).name());
+                ps.setObject(6, body.appliedDate());
+                ps.setObject(7, body.followUpDate());
+                ps.setString(8, body.notes());
+                ps.setString(9, body.jobUrl());
+                ps.setString(10, body.salary());
+                ps.setLong(11, userId);
+                ps.setObject(12, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_STATUS_HISTORY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, historyIds.get(i));
+                ps.setLong(2, ids.get(i));
+                ps.setLong(3, userId);
+                ps.setString(4, rows.get(i).request().status().name());
+                ps.setObject(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+
+        Map<Long, LocalDate> followUps = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            LocalDate followUpDate = rows.get(i).request().followUpDate();
+            if (followUpDate != null) followUps.put(ids.get(i), followUpDate);
+        }
+        followUpIndex.set(userId, followUps);
+        return ids;
+    }
+
+    private static String cell(List<String> record, int index) {
+        if (index < 0 || index >= record.size()) return null;
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String field, String value, Map<String, String> errors) {
+        if (value == null) return null;
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            errors.put(field, "invalid value");
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String field, String value, Map<String, String> errors) {
+        if (value == null) return null;
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            errors.put(field, "invalid date");
+            return null;
+        }
+    }
+
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    private record ParsedRow(long row, UpsertJobApplicationRequest request, Map<String, String> errors) {
+        boolean valid() {
+            return request != null;
+        }
+    }
+
+    private record CsvColumns(
+            int company,
+            int role,
+            int status,
+            int priority,
+            int appliedDate,
+            int followUpDate,
+            int salary,
+            int jobUrl,
+            int notes
+    ) {
+        // Mesmos aliases aceitos pelo import do front (ApplicationsPage.tsx)
+        static CsvColumns fromHeader(List<String> header) {
+            List<String> names = header.stream().map(h -> h.trim().toLowerCase(Locale.ROOT)).toList();
+            return new CsvColumns(
+                    indexOf(names, "company", "empresa"),
+                    indexOf(names, "role", "vaga", "cargo"),
+                    indexOf(names, "status"),
+                    indexOf(names, "priority", "prioridade"),
+                    indexOf(names, "applieddate", "applied_date", "data_aplicacao"),
+                    indexOf(names, "followupdate", "follow_up_date", "data_followup"),
+                    indexOf(names, "salary", "salario"),
+                    indexOf(names, "joburl", "job_url", "url_vaga"),
+                    indexOf(names, "notes", "observacoes", "observações")
+            );
+        }
+
+        private static int indexOf(List<String> names, String... aliases) {
+            for (String alias : aliases) {
+                int index = names.indexOf(alias);
+                if (index >= 0) return index;
+            }
+            return -1;
+        }
+    }
+
+    private final class Chunk {
+        private final Long userId;
+        private final Consumer<BulkImportRowResult> results;
+        private final List<ParsedRow> rows = new ArrayList<>();
+        private long accepted;
+        private long rejected;
+
+        private Chunk(Long userId, Consumer<BulkImportRowResult> results) {
+            this.userId = userId;
+            this.results = results;
+        }
+
+        void add(ParsedRow row) {
+            rows.add(row);
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        void flush() {
+            if (rows.isEmpty()) return;
+
+            List<ParsedRow> valid = rows.stream().filter(ParsedRow::valid).toList();
+            Map<ParsedRow, Long> ids = valid.isEmpty() ? Map.of() : insert(valid);
+
+            for (ParsedRow row : rows) {
+                Long id = ids.get(row);
+                if (!row.valid()) {
+                    rejected++;
+                    results.accept(BulkImportRowResult.rejected(row.row(), row.errors()));
+                } else if (id == null) {
+                    rejected++;
+                    results.accept(BulkImportRowResult.rejected(row.row(), Map.of("row", "could not be saved")));
+                } else {
+                    accepted++;
+                    results.accept(BulkImportRowResult.accepted(row.row(), id));
+                }
+            }
+            rows.clear();
+        }
+
+        /** Ids das linhas gravadas; as que o banco recusou ficam de fora. */
+        private Map<ParsedRow, Long> insert(List<ParsedRow> valid) {
+            Map<ParsedRow, Long> ids = new LinkedHashMap<>();
+            try {
+                List<Long> inserted = transactionTemplate.execute(status -> insertChunk(userId, valid));
+                for (int i = 0; i < valid.size(); i++) ids.put(valid.get(i), inserted.get(i));
+                return ids;
+            } catch (DataAccessException ex) {
+                log.warn("Import batch of {} rows failed for user {}, retrying row by row", valid.size(), userId, ex);
+            }
+
+            for (ParsedRow row : valid) {
+                try {
+                    List<Long> inserted = transactionTemplate.execute(status -> insertChunk(userId, List.of(row)));
+                    ids.put(row, inserted.getFirst());
+                } catch (DataAccessException ex) {
+                    log.warn("Import row {} could not be saved for user {}: {}", row.row(), userId, ex.getMessage());
+                }
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.ApplicationChangesResponse;
+import com.diego.jobtracker.dto.ApplicationStatsResponse;
+import com.diego.jobtracker.dto.FollowUpOverview;
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.dto.StatusHistoryResponse;
+import com.diego.jobtracker.dto.UpsertJobApplicationRequest;
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationTombstone;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.model.StatusHistory;
+import com.diego.jobtracker.model.User;
+import com.diego.jobtracker.observability.jfr.StatusChangeEvent;
+import com.diego.jobtracker.repository.ApplicationTombstoneRepository;
+import com.diego.jobtracker.repository.ChangeToken;
+import com.diego.jobtracker.repository.JobApplicationFilter;
+import com.diego.jobtracker.repository.JobApplicationRepository;
+import com.diego.jobtracker.repository.JobApplicationSpecifications;
+import com.diego.jobtracker.repository.KeysetCursor;
+import com.diego.jobtracker.repository.KeysetOrder;
+import com.diego.jobtracker.repository.StatusHistoryRepository;
+import com.diego.jobtracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Casos de uso das candidaturas, um por transação: a candidatura e a linha de
+ * status_history são gravadas no mesmo commit. Leituras rodam em transação
+ * read-only (sem flush e sem snapshots de dirty checking); escritas em entidades
+ * já gerenciadas dependem do dirty checking (+ @DynamicUpdate), sem save().
+ */
+@Service
+@Transactional(readOnly = true)
+public class JobApplicationService {
+
+    private final JobApplicationRepository repository;
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final UserRepository userRepository;
+    private final ApplicationTombstoneRepository tombstoneRepository;
+    private final FollowUpIndex followUpIndex;
+
+    @Value("${app.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Value("${app.sync.overlap:5s}")
+    private Duration syncOverlap;
+
+    public JobApplicationService(
+            JobApplicationRepository repository,
+            StatusHistoryRepository statusHistoryRepository,
+            UserRepository userRepository,
+            ApplicationTombstoneRepository tombstoneRepository,
+            FollowUpIndex followUpIndex
+    ) {
+        this.repository = repository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.userRepository = userRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.followUpIndex = followUpIndex;
+    }
+
+    public Page<JobApplication> list(JobApplicationFilter filter, String query, Pageable pageable) {
+        if (query != null && !query.isBlank()) {
+            return repository.search(filter, query, pageable);
+        }
+        return repository.findAll(JobApplicationSpecifications.matching(filter), pageable);
+    }
+
+    public Page<JobApplicationSummary> listSummaries(JobApplicationFilter filter, String query, Pageable pageable) {
+        if (query != null && !query.isBlank()) {
+            return repository.searchSummaries(filter, query, pageable);
+        }
+        return repository.findSummaries(JobApplicationSpecifications.matching(filter), pageable);
+    }
+
+    public Slice<JobApplication> listByCursor(JobApplicationFilter filter, KeysetOrder order, KeysetCursor after, int size) {
+        return repository.findSlice(JobApplicationSpecifications.matching(filter), order, after, size);
+    }
+
+    public Slice<JobApplicationSummary> listSummariesByCursor(
+            JobApplicationFilter filter,
+            KeysetOrder order,
+            KeysetCursor after,
+            int size
+    ) {
+        return repository.findSummarySlice(JobApplicationSpecifications.matching(filter), order, after, size);
+    }
+
+    public ApplicationStatsResponse stats(Long userId, LocalDate today) {
+        return ApplicationStatsResponse.fromBuckets(repository.aggregateStats(userId, today));
+    }
+
+    /**
+     * Follow-ups até hoje (ou só os vencidos, com overdueOnly): contagens e ids vêm do
+     * FollowUpIndex, os itens de uma consulta por PK. Enquanto o índice não está pronto,
+     * mesmas contagens/listagem direto no banco.
+     */
+    public FollowUpOverview followUps(Long userId, LocalDate today, boolean overdueOnly, int limit) {
+        if (followUpIndex.isReady()) {
+            FollowUpIndex.Counts counts = followUpIndex.counts(userId, today);
+            List<Long> ids = followUpIndex.firstDue(userId, today, overdueOnly, limit);
+            Map<Long, JobApplicationSummary> byId = repository.findSummariesByIds(userId, ids).stream()
+                    .collect(Collectors.toMap(JobApplicationSummary::id, Function.identity()));
+            List<JobApplicationSummary> items = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+            return new FollowUpOverview(counts.due(), counts.overdue(), items);
+        }
+
+        JobApplicationFilter due = followUpsUntil(userId, today);
+        JobApplicationFilter overdue = followUpsUntil(userId, today.minusDays(1));
+        List<JobApplicationSummary> items = listSummariesByCursor(
+                overdueOnly ? overdue : due, KeysetOrder.FOLLOW_UP_DATE_ASC, null, limit
+        ).getContent();
+        return new FollowUpOverview(
+                repository.count(JobApplicationSpecifications.matching(due)),
+                repository.count(JobApplicationSpecifications.matching(overdue)),
+                items
+        );
+    }
+
+    /**
+     * Alterações depois de {@code since} (null = carga inicial, sem remoções), mescladas
+     * na ordem (updatedAt, id). Na última página o token é sempre "now - app.sync.overlap":
+     * uma transação que carimbou updated_at antes e commitou depois ainda é vista
+     * (o cliente recebe alguns upserts repetidos, que são idempotentes) e quem só faz
+     * polling sem escrever continua andando, sem cair no 410 da retenção.
+     */
+    public ApplicationChangesResponse changes(Long userId, ChangeToken since, int size, LocalDateTime now) {
+        if (since != null && since.changedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Change token expired, reload everything");
+        }
+
+        List<JobApplicationSummary> changed = repository.findChangedSince(userId, since, size + 1);
+        List<ApplicationTombstone> tombstones = since == null
+                ? List.of()
+                : tombstoneRepository.findAfter(userId, since.changedAt(), since.id(), Limit.of(size + 1));
+
+        List<JobApplicationSummary> upserts = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        ChangeToken last = since;
+        int u = 0;
+        int t = 0;
+        while (upserts.size() + deleted.size() < size && (u < changed.size() || t < tombstones.size())) {
+            ChangeToken nextUpsert = u < changed.size() ? tokenOf(changed.get(u)) : null;
+            ChangeToken nextTombstone = t < tombstones.size() ? tokenOf(tombstones.get(t)) : null;
+            if (nextTombstone == null || (nextUpsert != null && nextUpsert.compareTo(nextTombstone) < 0)) {
+                upserts.add(changed.get(u++));
+                last = nextUpsert;
+            } else {
+                deleted.add(tombstones.get(t++).getApplicationId());
+                last = nextTombstone;
+            }
+        }
+
+        boolean hasMore = u < changed.size() || t < tombstones.size();
+        // sem hasMore não há nada depois de last: o token vai para "agora - overlap", para trás
+        // (transações abertas) ou para frente (usuário sem escrita não chega na retenção)
+        ChangeToken next = hasMore
+                ? last
+                : new ChangeToken(now.minus(syncOverlap).truncatedTo(ChronoUnit.MICROS), 0);
+        return new ApplicationChangesResponse(upserts, deleted, next.encode(), hasMore);
+    }
+
+    public JobApplication get(Long userId, long id) {
+        return findOwned(userId, id);
+    }
+
+    public List<StatusHistoryResponse> history(Long userId, long id) {
+        if (!repository.existsByIdAndUserId(id, userId)) {
+            throw notFound();
+        }
+        return statusHistoryRepository
+                .findByApplicationIdAndUserIdOrderByChangedAtDesc(id, userId)
+                .stream()
+                .map(StatusHistoryResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public JobApplication create(Long userId, UpsertJobApplicationRequest body) {
+        JobApplication app = new JobApplication();
+        apply(app, body);
+        User user = userRepository.getReferenceById(userId);
+        app.setUser(user);
+        JobApplication saved = repository.save(app);
+        recordStatusChange(user, saved, null, saved.getStatus());
+        followUpIndex.set(userId, saved.getId(), saved.getFollowUpDate());
+        return saved;
+    }
+
+    @Transactional
+    public JobApplication update(Long userId, long id, UpsertJobApplicationRequest body) {
+        JobApplication app = findOwned(userId, id);
+        ApplicationStatus previousStatus = app.getStatus();
+        apply(app, body);
+        if (previousStatus != app.getStatus()) {
+            recordStatusChange(app.getUser(), app, previousStatus, app.getStatus());
+        }
+        followUpIndex.set(userId, app.getId(), app.getFollowUpDate());
+        return app;
+    }
+
+    @Transactional
+    public JobApplication updateStatus(Long userId, long id, ApplicationStatus status) {
+        JobApplication app = findOwned(userId, id);
+        ApplicationStatus previousStatus = app.getStatus();
+        if (previousStatus != status) {
+            app.setStatus(status);
+            recordStatusChange(app.getUser(), app, previousStatus, status);
+        }
+        return app;
+    }
+
+    @Transactional
+    public void delete(Long userId, long id) {
+        JobApplication app = findOwned(userId, id);
+        statusHistoryRepository.deleteByApplicationId(app.getId());
+        repository.delete(app);
+        followUpIndex.remove(userId, List.of(app.getId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        tombstoneRepository.save(new ApplicationTombstone(app.getId(), userId, now));
+        tombstoneRepository.deleteOlderThan(userId, now.minus(tombstoneRetention));
+    }
+
+    // findById passa pelo cache de segundo nível; o dono é conferido pelo FK, sem carregar o User
+    private JobApplication findOwned(Long userId, long id) {
+        return repository.findById(id)
+                .filter(app -> app.getUser().getId().equals(userId))
+                .orElseThrow(JobApplicationService::notFound);
+    }
+
+    private static JobApplicationFilter followUpsUntil(Long userId, LocalDate last) {
+        return new JobApplicationFilter(userId, Set.of(), Set.of(), null, null, null, last, null);
+    }
+
+    private static ChangeToken tokenOf(JobApplicationSummary summary) {
+        return new ChangeToken(summary.updatedAt(), summary.id());
+    }
+
+    private static ChangeToken tokenOf(ApplicationTombstone tombstone) {
+        return new ChangeToken(tombstone.getDeletedAt(), tombstone.getApplicationId());
+    }
+
+    private static ResponseStatusException notFound() {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Application not found");
+    }
+
+    private static void apply(JobApplication app, UpsertJobApplicationRequest body) {
+        app.setCompany(body.company().trim());
+        app.setRole(body.role().trim());
+        app.setStatus(body.status());
+        app.setPriority(body.priority() == null ? ApplicationPriority.MEDIUM : body.priority());
+        app.setAppliedDate(body.appliedDate());
+        app.setFollowUpDate(body.followUpDate());
+        app.setNotes(body.notes());
+        app.setJobUrl(body.jobUrl());
+        app.setSalary(body.salary());
+    }
+
+    private void recordStatusChange(
+            User user,
+            JobApplication application,
+            ApplicationStatus fromStatus,
+            ApplicationStatus toStatus
+    ) {
+        StatusChangeEvent event = new StatusChangeEvent();
+        event.begin();
+        StatusHistory history = new StatusHistory();
+        history.setUser(user);
+        history.setApplication(application);
+        history.setFromStatus(fromStatus);
+        history.setToStatus(toStatus);
+        statusHistoryRepository.save(history);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.applicationId = application.getId();
+            event.fromStatus = fromStatus == null ? null : fromStatus.name();
+            event.toStatus = toStatus.name();
+            event.count = 1;
+            event.commit();
+        }
+    }
+}
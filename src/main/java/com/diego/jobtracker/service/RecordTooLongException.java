@@ -0,0 +1,12 @@
+package com.diego.jobtracker.service;
+
+/**
+ * Registro do import (linha NDJSON ou registro CSV) acima de app.import.max-record-chars.
+ * Quando é lançada, o registro já foi consumido do reader: a leitura segue no próximo.
+ */
+class RecordTooLongException extends RuntimeException {
+
+    RecordTooLongException(int maxChars) {
+        super("record must have at most " + maxChars + " characters");
+    }
+}
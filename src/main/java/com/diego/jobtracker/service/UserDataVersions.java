@@ -0,0 +1,46 @@
+package com.diego.jobtracker.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Versão dos dados de candidaturas por usuário, em memória, para ETags fracos.
+ *
+ * Os usuários são distribuídos em faixas (stripes) fixas: memória constante e
+ * sem limpeza. Um bump invalida todos os usuários da faixa — no pior caso um
+ * refetch a mais, nunca um 304 com dado velho. Como usuários diferentes dividem
+ * a faixa, o id do usuário também entra no ETag. O epoch do processo entra no
+ * ETag, então um restart invalida tudo. Vale para uma instância só; com várias
+ * atrás de um balanceador cada uma teria a sua versão.
+ */
+@Component
+public class UserDataVersions {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public long current(Long userId) {
+        return versions.get(stripe(userId));
+    }
+
+    public void bump(Long userId) {
+        versions.incrementAndGet(stripe(userId));
+    }
+
+    /**
+     * ETag fraco da versão atual. Inclui o usuário (o navegador guarda por URL: depois
+     * de um logout/login outro usuário não pode casar com o cache do anterior) e a data,
+     * porque follow-ups vencidos e estatísticas dependem de "hoje" mesmo sem escrita.
+     */
+    public String etag(Long userId, LocalDate today) {
+        return "W/\"" + epoch + "-" + userId + "-" + current(userId) + "-" + today + "\"";
+    }
+
+    private static int stripe(Long userId) {
+        return Long.hashCode(userId) & (STRIPES - 1);
+    }
+}
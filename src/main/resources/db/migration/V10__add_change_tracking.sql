@@ -0,0 +1,20 @@
+-- V10: Sincronização incremental (GET /applications/changes)
+
+-- updated_at passa a ser preenchido também no INSERT
+UPDATE job_applications SET updated_at = NOW() WHERE updated_at IS NULL;
+ALTER TABLE job_applications ALTER COLUMN updated_at SET DEFAULT NOW();
+ALTER TABLE job_applications ALTER COLUMN updated_at SET NOT NULL;
+
+-- "o que mudou desde (updated_at, id)": range scan por usuário, já na ordem do token
+CREATE INDEX idx_job_applications_user_updated
+    ON job_applications (user_id, updated_at, id);
+
+-- Ids removidos, para os clientes apagarem da cópia local
+CREATE TABLE application_tombstones (
+    application_id BIGINT    PRIMARY KEY,
+    user_id        BIGINT    NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    deleted_at     TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_application_tombstones_user_deleted
+    ON application_tombstones (user_id, deleted_at, application_id);
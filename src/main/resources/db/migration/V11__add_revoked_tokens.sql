@@ -0,0 +1,11 @@
+-- V11: Revogação de JWT no logout (claim jti)
+
+-- Só tokens ainda não expirados interessam: linhas com expires_at no passado são apagadas
+CREATE TABLE revoked_tokens (
+    jti        VARCHAR(64) PRIMARY KEY,
+    user_id    BIGINT      NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    expires_at TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at
+    ON revoked_tokens (expires_at);
@@ -0,0 +1,25 @@
+-- V6: Busca textual (company, role, notes) sem acentos, ordenada por relevância
+
+-- translate() é IMMUTABLE, então pode ser usado em coluna gerada (unaccent não é).
+-- Cobre os mesmos acentos que o stripDiacritics do front trata na prática (pt/en).
+CREATE FUNCTION jt_unaccent(value TEXT) RETURNS TEXT
+    LANGUAGE SQL
+    IMMUTABLE
+    PARALLEL SAFE
+    RETURNS NULL ON NULL INPUT
+AS $$
+    SELECT translate(
+        value,
+        'áàâãäåéèêëíìîïóòôõöúùûüçñýÿÁÀÂÃÄÅÉÈÊËÍÌÎÏÓÒÔÕÖÚÙÛÜÇÑÝ',
+        'aaaaaaeeeeiiiiooooouuuucnyyAAAAAAEEEEIIIIOOOOOUUUUCNY'
+    )
+$$;
+
+ALTER TABLE job_applications
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', jt_unaccent(coalesce(company, ''))), 'A') ||
+        setweight(to_tsvector('simple', jt_unaccent(coalesce(role, ''))), 'B') ||
+        setweight(to_tsvector('simple', jt_unaccent(coalesce(notes, ''))), 'C')
+    ) STORED;
+
+CREATE INDEX idx_job_applications_search_vector ON job_applications USING GIN (search_vector);
@@ -0,0 +1,14 @@
+-- V7: Índices compostos para paginação por cursor (keyset)
+
+-- Listagem padrão: appliedDate desc, id desc
+CREATE INDEX idx_job_applications_user_applied_date
+    ON job_applications (user_id, applied_date DESC, id DESC);
+
+-- Follow-ups (due/overdue), com e sem filtro de status: followUpDate asc, id asc
+CREATE INDEX idx_job_applications_user_status_follow_up
+    ON job_applications (user_id, status, follow_up_date, id);
+CREATE INDEX idx_job_applications_user_follow_up
+    ON job_applications (user_id, follow_up_date, id);
+
+-- Coberto pelo prefixo (user_id) dos índices acima
+DROP INDEX idx_job_applications_user_id;
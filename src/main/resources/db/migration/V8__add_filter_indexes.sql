@@ -0,0 +1,13 @@
+-- V8: Índices para os filtros dinâmicos da listagem (priority e prefixo de company)
+
+CREATE INDEX idx_job_applications_user_priority
+    ON job_applications (user_id, priority);
+
+-- lower(company) LIKE 'prefixo%' (independe da collation do banco)
+CREATE INDEX idx_job_applications_user_company_prefix
+    ON job_applications (user_id, lower(company) text_pattern_ops);
+
+-- Coluna única, sem user_id: toda consulta filtra por usuário e usa os compostos (V7/V8)
+DROP INDEX idx_job_applications_status;
+DROP INDEX idx_job_applications_priority;
+DROP INDEX idx_job_applications_follow_up_date;
@@ -0,0 +1,28 @@
+-- V9: IDs por sequence com incremento 50 (otimizador pooled do Hibernate)
+--
+-- Com IDENTITY o Hibernate precisa executar cada INSERT na hora para ler o id,
+-- o que desliga o batch JDBC. Com sequence ele reserva 50 ids por nextval.
+-- A coluna continua com DEFAULT nextval(...) para INSERTs sem id (SQL manual,
+-- seeds de benchmark): cada valor devolvido pela sequence vai para um único
+-- consumidor, então não colide com os blocos reservados pelo Hibernate.
+
+CREATE SEQUENCE users_seq            INCREMENT BY 50;
+CREATE SEQUENCE job_applications_seq INCREMENT BY 50;
+CREATE SEQUENCE status_history_seq   INCREMENT BY 50;
+
+-- Próximo bloco começa depois do maior id existente (dados BIGSERIAL continuam válidos)
+SELECT setval('users_seq',            COALESCE((SELECT MAX(id) FROM users), 0) + 50);
+SELECT setval('job_applications_seq', COALESCE((SELECT MAX(id) FROM job_applications), 0) + 50);
+SELECT setval('status_history_seq',   COALESCE((SELECT MAX(id) FROM status_history), 0) + 50);
+
+ALTER TABLE users            ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER TABLE job_applications ALTER COLUMN id SET DEFAULT nextval('job_applications_seq');
+ALTER TABLE status_history   ALTER COLUMN id SET DEFAULT nextval('status_history_seq');
+
+ALTER SEQUENCE users_seq            OWNED BY users.id;
+ALTER SEQUENCE job_applications_seq OWNED BY job_applications.id;
+ALTER SEQUENCE status_history_seq   OWNED BY status_history.id;
+
+DROP SEQUENCE users_id_seq;
+DROP SEQUENCE job_applications_id_seq;
+DROP SEQUENCE status_history_id_seq;
@@ -0,0 +1,164 @@
+package com.diego.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /applications/export: CSV com cabeçalho e células escapadas, NDJSON com os
+ * filtros da listagem (sem q) e a mesma resposta compactada com Accept-Encoding: gzip.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ApplicationExportTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Cookie session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = register(mvc, "export");
+        create("Acme", "APPLIED", "2025-03-01", TODAY.minusDays(2), "Disse \"ok\", ligar\nna segunda");
+        create("Globex", "INTERVIEW", "2025-02-01", TODAY, null);
+        create("Initech", "INTERVIEW", "2025-01-01", null, "sem follow-up");
+        create(register(mvc, "export-other"), "Umbrella", "APPLIED", "2025-04-01", TODAY, null);
+    }
+
+    @Test
+    void csvHasTheHeaderAndEscapesCommasQuotesAndNewlines() throws Exception {
+        MockHttpServletResponse response = export(get("/applications/export").param("format", "csv"));
+
+        assertThat(response.getContentType()).startsWith("text/csv");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).startsWith("attachment;")
+                .contains(".csv");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(String.join("\n",
+                "company,role,status,priority,appliedDate,followUpDate,salary,jobUrl,notes",
+                "Acme,Dev,APPLIED,HIGH,2025-03-01," + TODAY.minusDays(2) + ",,,\"Disse \"\"ok\"\", ligar\nna segunda\"",
+                "Globex,Dev,INTERVIEW,HIGH,2025-02-01," + TODAY + ",,,",
+                "Initech,Dev,INTERVIEW,HIGH,2025-01-01,,,,sem follow-up",
+                ""));
+    }
+
+    @Test
+    void ndjsonAppliesStatusAndFollowUpFilters() throws Exception {
+        MockHttpServletResponse all = export(get("/applications/export").param("format", "ndjson"));
+        assertThat(all.getContentType()).startsWith("application/x-ndjson");
+        List<JsonNode> rows = ndjson(all.getContentAsString(StandardCharsets.UTF_8));
+        assertThat(rows).extracting(row -> row.get("company").asText()).containsExactly("Acme", "Globex", "Initech");
+        assertThat(rows.get(0).get("notes").asText()).isEqualTo("Disse \"ok\", ligar\nna segunda");
+
+        assertThat(companies(get("/applications/export").param("format", "ndjson").param("status", "INTERVIEW")))
+                .containsExactly("Globex", "Initech");
+        assertThat(companies(get("/applications/export").param("format", "ndjson").param("followUpDue", "true")))
+                .containsExactly("Acme", "Globex");
+        assertThat(companies(get("/applications/export").param("format", "ndjson").param("followUpOverdue", "true")))
+                .containsExactly("Acme");
+        assertThat(companies(get("/applications/export").param("format", "ndjson")
+                .param("status", "INTERVIEW").param("followUpDue", "true")))
+                .containsExactly("Globex");
+    }
+
+    @Test
+    void gzipIsUsedWhenTheClientAcceptsIt() throws Exception {
+        byte[] plain = export(get("/applications/export").param("format", "csv")).getContentAsByteArray();
+
+        MockHttpServletResponse compressed = export(get("/applications/export").param("format", "csv")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip"));
+        assertThat(compressed.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(compressed.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(compressed.getContentAsByteArray())).isEqualTo(plain);
+
+        assertThat(export(get("/applications/export").param("format", "csv")).getHeader(HttpHeaders.CONTENT_ENCODING))
+                .isNull();
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        mvc.perform(get("/applications/export").param("format", "xml").cookie(session))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockHttpServletResponse export(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mvc.perform(builder.cookie(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private List<String> companies(MockHttpServletRequestBuilder builder) throws Exception {
+        return ndjson(export(builder).getContentAsString(StandardCharsets.UTF_8)).stream()
+                .map(row -> row.get("company").asText())
+                .toList();
+    }
+
+    private List<JsonNode> ndjson(String body) throws IOException {
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) rows.add(objectMapper.readTree(line));
+        }
+        return rows;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private void create(String company, String status, String appliedDate, LocalDate followUpDate, String notes)
+            throws Exception {
+        create(session, company, status, appliedDate, followUpDate, notes);
+    }
+
+    private void create(Cookie owner, String company, String status, String appliedDate, LocalDate followUpDate,
+                        String notes) throws Exception {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("company", company);
+        fields.put("role", "Dev");
+        fields.put("status", status);
+        fields.put("priority", "HIGH");
+        fields.put("appliedDate", appliedDate);
+        fields.put("followUpDate", followUpDate == null ? null : followUpDate.toString());
+        fields.put("notes", notes);
+        mvc.perform(post("/applications").cookie(owner).contentType("application/json")
+                        .content(objectMapper.writeValueAsString(fields)))
+                .andExpect(status().is2xxSuccessful());
+    }
+}
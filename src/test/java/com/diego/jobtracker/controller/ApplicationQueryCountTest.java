@@ -0,0 +1,106 @@
+package com.diego.jobtracker.controller;
+
+import com.diego.jobtracker.service.FollowUpIndex;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static com.diego.jobtracker.support.SqlStatements.assertStatements;
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Quantos statements SQL cada endpoint quente executa, com cache de JWT e de segundo
+ * nível já aquecidos. Um número maior aqui é regressão (lookup a mais, N+1).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ApplicationQueryCountTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private FollowUpIndex followUpIndex;
+
+    private Cookie session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!followUpIndex.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        session = register(mvc, "queries");
+        for (int i = 0; i < 3; i++) {
+            create("Acme " + i);
+        }
+    }
+
+    // página por offset com mais linhas que o size: SELECT da página + COUNT do total;
+    // o usuário vem do token, sem SELECT em users
+    @Test
+    void listApplications() throws Exception {
+        perform(get("/applications?size=2"));
+        assertStatements(perform(get("/applications?size=2"))).isEqualTo(2);
+    }
+
+    // página keyset por appliedDate: uma consulta só, sem COUNT (a fase das datas nulas
+    // só roda quando as linhas com data não enchem a página)
+    @Test
+    void listApplicationsByCursor() throws Exception {
+        perform(get("/applications?cursor=&size=2"));
+        assertStatements(perform(get("/applications?cursor=&size=2"))).isEqualTo(1);
+    }
+
+    // cache de segundo nível
+    @Test
+    void getApplication() throws Exception {
+        long id = create("Single");
+        perform(get("/applications/" + id));
+        assertStatements(perform(get("/applications/" + id))).isEqualTo(0);
+    }
+
+    // findById, DELETE do histórico, DELETE da candidatura, INSERT do tombstone, limpeza dos tombstones velhos
+    @Test
+    void deleteApplication() throws Exception {
+        long id = create("Doomed");
+        assertStatements(() -> mvc.perform(delete("/applications/" + id).cookie(session))
+                .andExpect(status().is2xxSuccessful())).isEqualTo(5);
+    }
+
+    // stats + recentes + follow-ups (contagens do índice em memória, só o SELECT dos itens)
+    @Test
+    void dashboard() throws Exception {
+        perform(get("/dashboard"));
+        assertStatements(perform(get("/dashboard"))).isEqualTo(3);
+    }
+
+    @Test
+    void me() throws Exception {
+        perform(get("/auth/me"));
+        assertStatements(perform(get("/auth/me"))).isEqualTo(0);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mvc.perform(request.cookie(session)).andExpect(status().isOk()).andReturn();
+    }
+
+    private long create(String company) throws Exception {
+        String body = mvc.perform(post("/applications").cookie(session).contentType("application/json")
+                        .content("{\"company\":\"" + company + "\",\"role\":\"Dev\",\"status\":\"APPLIED\","
+                                + "\"appliedDate\":\"2024-01-15\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        return Long.parseLong(body.replaceAll("(?s).*?\"id\"\\s*:\\s*(\\d+).*", "$1"));
+    }
+}
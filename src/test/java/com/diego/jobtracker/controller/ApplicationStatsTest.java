@@ -0,0 +1,81 @@
+package com.diego.jobtracker.controller;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /applications/stats: o GROUP BY por status, prioridade e mês de aplicação
+ * (aggregateStats) somado de volta em totais, com os follow-ups até hoje e vencidos.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ApplicationStatsTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void countsByStatusPriorityMonthAndFollowUp() throws Exception {
+        LocalDate today = LocalDate.now();
+        Cookie session = register(mvc, "stats");
+        create(session, "APPLIED", "HIGH", "2025-01-10", today.minusDays(3));
+        create(session, "APPLIED", "HIGH", "2025-01-20", today);
+        create(session, "APPLIED", "LOW", "2025-02-05", today.plusDays(2));
+        create(session, "INTERVIEW", "MEDIUM", "2025-02-14", null);
+        create(session, "INTERVIEW", "HIGH", "2024-12-31", today.minusDays(1));
+        create(session, "REJECTED", "LOW", "2025-02-28", null);
+        // outro usuário não entra na conta
+        create(register(mvc, "stats-other"), "OFFER", "HIGH", "2025-01-15", today.minusDays(5));
+
+        mvc.perform(get("/applications/stats").cookie(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.byStatus.APPLIED").value(3))
+                .andExpect(jsonPath("$.byStatus.INTERVIEW").value(2))
+                .andExpect(jsonPath("$.byStatus.OFFER").value(0))
+                .andExpect(jsonPath("$.byStatus.REJECTED").value(1))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(3))
+                .andExpect(jsonPath("$.byPriority.MEDIUM").value(1))
+                .andExpect(jsonPath("$.byPriority.LOW").value(2))
+                .andExpect(jsonPath("$.byAppliedMonth.length()").value(3))
+                .andExpect(jsonPath("$.byAppliedMonth['2024-12']").value(1))
+                .andExpect(jsonPath("$.byAppliedMonth['2025-01']").value(2))
+                .andExpect(jsonPath("$.byAppliedMonth['2025-02']").value(3))
+                .andExpect(jsonPath("$.followUpDue").value(3))
+                .andExpect(jsonPath("$.followUpOverdue").value(2));
+    }
+
+    @Test
+    void emptyUserHasZeroedCounts() throws Exception {
+        mvc.perform(get("/applications/stats").cookie(register(mvc, "stats-empty")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0))
+                .andExpect(jsonPath("$.byStatus.APPLIED").value(0))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(0))
+                .andExpect(jsonPath("$.byAppliedMonth").isEmpty())
+                .andExpect(jsonPath("$.followUpDue").value(0))
+                .andExpect(jsonPath("$.followUpOverdue").value(0));
+    }
+
+    private void create(Cookie session, String status, String priority, String appliedDate, LocalDate followUpDate)
+            throws Exception {
+        String followUp = followUpDate == null ? "null" : "\"" + followUpDate + "\"";
+        mvc.perform(post("/applications").cookie(session).contentType("application/json")
+                        .content("{\"company\":\"Acme\",\"role\":\"Dev\",\"status\":\"" + status + "\""
+                                + ",\"priority\":\"" + priority + "\",\"appliedDate\":\"" + appliedDate + "\""
+                                + ",\"followUpDate\":" + followUp + "}"))
+                .andExpect(status().is2xxSuccessful());
+    }
+}
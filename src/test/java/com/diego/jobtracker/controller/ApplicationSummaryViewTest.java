@@ -0,0 +1,104 @@
+package com.diego.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /applications?view=summary: sem notes, e com a mesma paginação, ordem e contagem
+ * da listagem de entidades para os mesmos filtros.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ApplicationSummaryViewTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Cookie session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = register(mvc, "summary");
+        create(session, "Acme", "APPLIED", "2025-01-05");
+        create(session, "Globex", "INTERVIEW", "2025-01-12");
+        create(session, "Acme Labs", "APPLIED", "2025-02-01");
+        create(session, "Initech", "REJECTED", "2025-02-20");
+        create(session, "Hooli", "APPLIED", "2025-03-03");
+        create(register(mvc, "summary-other"), "Umbrella", "APPLIED", "2025-01-01");
+    }
+
+    @Test
+    void summaryLeavesOutNotes() throws Exception {
+        mvc.perform(get("/applications").param("view", "summary").cookie(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].company").exists())
+                .andExpect(jsonPath("$.content[0].notes").doesNotExist());
+        mvc.perform(get("/applications").cookie(session))
+                .andExpect(jsonPath("$.content[0].notes").exists());
+    }
+
+    @Test
+    void summaryPagesAndCountsLikeTheEntityListing() throws Exception {
+        // compare() confere cada página; aqui, que as 3 páginas cobrem as 5 linhas sem repetir
+        List<Long> seen = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            seen.addAll(ids(compare(get("/applications")
+                    .param("page", String.valueOf(page)).param("size", "2").param("sort", "appliedDate,desc"))));
+        }
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+
+        compare(get("/applications").param("status", "APPLIED").param("size", "2"));
+        compare(get("/applications").param("q", "acme"));
+    }
+
+    /** Busca a listagem de entidades e a mesma com view=summary; devolve a de entidades. */
+    private JsonNode compare(MockHttpServletRequestBuilder builder) throws Exception {
+        JsonNode full = page(builder);
+        JsonNode summary = page(builder.param("view", "summary"));
+        assertThat(summary.get("totalElements").asLong()).isEqualTo(full.get("totalElements").asLong());
+        assertThat(summary.get("totalPages").asInt()).isEqualTo(full.get("totalPages").asInt());
+        assertThat(ids(summary)).isEqualTo(ids(full));
+        return full;
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder builder) throws Exception {
+        String body = mvc.perform(builder.cookie(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode row : page.get("content")) ids.add(row.get("id").asLong());
+        return ids;
+    }
+
+    private void create(Cookie owner, String company, String status, String appliedDate) throws Exception {
+        mvc.perform(post("/applications").cookie(owner).contentType("application/json")
+                        .content("{\"company\":\"" + company + "\",\"role\":\"Dev\",\"status\":\"" + status + "\""
+                                + ",\"appliedDate\":\"" + appliedDate + "\",\"notes\":\"anotação de " + company + "\"}"))
+                .andExpect(status().is2xxSuccessful());
+    }
+}
@@ -0,0 +1,112 @@
+package com.diego.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Import em massa com linhas válidas e inválidas misturadas: cada linha tem seu
+ * próprio resultado e as inválidas (inclusive acima do tamanho da coluna ou do
+ * tamanho máximo de um registro) não derrubam as outras do mesmo lote.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BulkImportTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixedRowsAreAcceptedOrRejectedIndividually() throws Exception {
+        Cookie session = register(mvc, "bulk");
+        String body = String.join("\n",
+                "{\"company\":\"Nubank\",\"role\":\"Backend\",\"status\":\"APPLIED\"}",
+                "{\"company\":\"\",\"role\":\"Backend\",\"status\":\"APPLIED\"}",
+                "{\"company\":\"" + "x".repeat(256) + "\",\"role\":\"Backend\",\"status\":\"APPLIED\"}",
+                "{\"company\":\"Stone\",\"role\":\"Backend\",\"status\":\"NOPE\"}",
+                "not json",
+                "{\"company\":\"Itaú\",\"role\":\"Dados\",\"status\":\"INTERVIEW\",\"salary\":\"" + "9".repeat(101) + "\"}",
+                "{\"company\":\"Itaú\",\"role\":\"Dados\",\"status\":\"INTERVIEW\",\"jobUrl\":\"https://itau.com/vagas/1\"}"
+        );
+
+        String response = mvc.perform(post("/applications/bulk").cookie(session)
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) lines.add(objectMapper.readTree(line));
+        assertThat(lines).hasSize(8);
+
+        assertThat(lines.subList(0, 7)).extracting(line -> line.get("accepted").asBoolean())
+                .containsExactly(true, false, false, false, false, false, true);
+        assertThat(lines.get(0).get("id").isNumber()).isTrue();
+        assertThat(lines.get(1).get("errors").has("company")).isTrue();
+        assertThat(lines.get(2).get("errors").get("company").asText()).contains("255");
+        assertThat(lines.get(3).get("errors").has("status")).isTrue();
+        assertThat(lines.get(4).get("errors").has("body")).isTrue();
+        assertThat(lines.get(5).get("errors").get("salary").asText()).contains("100");
+
+        JsonNode summary = lines.get(7);
+        assertThat(summary.get("accepted").asLong()).isEqualTo(2);
+        assertThat(summary.get("rejected").asLong()).isEqualTo(5);
+
+        String list = mvc.perform(get("/applications").cookie(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(list).get("totalElements").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    void oversizedRecordsAreRejectedWithoutStoppingTheImport() throws Exception {
+        Cookie session = register(mvc, "bulk");
+        String ndjson = String.join("\n",
+                "{\"company\":\"Nubank\",\"role\":\"Backend\",\"status\":\"APPLIED\"}",
+                "{\"company\":\"Big\",\"role\":\"Backend\",\"status\":\"APPLIED\",\"notes\":\""
+                        + "x".repeat(70_000) + "\"}",
+                "{\"company\":\"Stone\",\"role\":\"Backend\",\"status\":\"APPLIED\"}"
+        );
+        List<JsonNode> lines = importFile(session, "application/x-ndjson", ndjson);
+        assertThat(lines).hasSize(4);
+        assertThat(lines.subList(0, 3)).extracting(line -> line.get("accepted").asBoolean())
+                .containsExactly(true, false, true);
+        assertThat(lines.get(1).get("errors").get("body").asText()).contains("65536");
+
+        // aspas sem fechar: o resto do arquivo é um registro só, rejeitado sem ir inteiro para a memória
+        String csv = "company,role,status\nAcme,Dev,APPLIED\n\"Unclosed,Dev,APPLIED\n" + "x".repeat(70_000);
+        lines = importFile(session, "text/csv", csv);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).get("accepted").asBoolean()).isTrue();
+        assertThat(lines.get(1).get("accepted").asBoolean()).isFalse();
+        assertThat(lines.get(2).get("rejected").asLong()).isEqualTo(1);
+    }
+
+    private List<JsonNode> importFile(Cookie session, String contentType, String body) throws Exception {
+        String response = mvc.perform(post("/applications/bulk").cookie(session)
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) lines.add(objectMapper.readTree(line));
+        return lines;
+    }
+}
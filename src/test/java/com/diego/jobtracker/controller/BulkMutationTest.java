@@ -0,0 +1,143 @@
+package com.diego.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PATCH /applications/bulk é SQL por conjunto, fora do Hibernate: ids de outro usuário
+ * (ou inexistentes) são ignorados, linhas já no valor pedido ficam fora de affectedIds,
+ * SET_STATUS grava um status_history por linha alterada e DELETE deixa tombstones.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BulkMutationTest {
+
+    private static final long MISSING_ID = 999_999_999L;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statusChangesSkipForeignAndUnchangedRowsAndWriteHistory() throws Exception {
+        Cookie owner = register(mvc, "bulk-owner");
+        Cookie other = register(mvc, "bulk-other");
+        long applied = create(owner, "Acme", "APPLIED");
+        long offer = create(owner, "Globex", "OFFER");
+        long alreadyInterview = create(owner, "Initech", "INTERVIEW");
+        long foreign = create(other, "Umbrella", "APPLIED");
+
+        assertThat(bulk(owner, "{\"ids\":[%d,%d,%d,%d,%d],\"operation\":\"SET_STATUS\",\"status\":\"INTERVIEW\"}"
+                .formatted(applied, offer, alreadyInterview, foreign, MISSING_ID)))
+                .containsExactly(applied, offer);
+
+        assertThat(transitions(applied)).containsExactly("APPLIED -> INTERVIEW");
+        assertThat(transitions(offer)).containsExactly("OFFER -> INTERVIEW");
+        assertThat(transitions(alreadyInterview)).isEmpty();
+        assertThat(transitions(foreign)).isEmpty();
+        mvc.perform(get("/applications/" + foreign).cookie(other))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPLIED"));
+        mvc.perform(get("/applications/" + applied).cookie(owner))
+                .andExpect(jsonPath("$.status").value("INTERVIEW"));
+    }
+
+    @Test
+    void priorityAndFollowUpChangesLeaveOutRowsAlreadyAtTheValue() throws Exception {
+        Cookie owner = register(mvc, "bulk-values");
+        long first = create(owner, "Acme", "APPLIED");
+        long second = create(owner, "Globex", "APPLIED");
+
+        String priority = "{\"ids\":[%d,%d],\"operation\":\"SET_PRIORITY\",\"priority\":\"HIGH\"}";
+        assertThat(bulk(owner, priority.formatted(first, second))).containsExactly(first, second);
+        assertThat(bulk(owner, priority.formatted(first, second))).isEmpty();
+
+        String followUp = "{\"ids\":[%d,%d],\"operation\":\"SET_FOLLOW_UP_DATE\",\"followUpDate\":%s}";
+        assertThat(bulk(owner, followUp.formatted(first, first, "\"2030-01-15\""))).containsExactly(first);
+        assertThat(bulk(owner, followUp.formatted(first, second, "\"2030-01-15\""))).containsExactly(second);
+        assertThat(bulk(owner, followUp.formatted(first, second, "\"2030-01-15\""))).isEmpty();
+        assertThat(bulk(owner, followUp.formatted(first, first, "null"))).containsExactly(first);
+        assertThat(bulk(owner, followUp.formatted(first, first, "null"))).isEmpty();
+
+        mvc.perform(get("/applications/" + second).cookie(owner))
+                .andExpect(jsonPath("$.priority").value("HIGH"))
+                .andExpect(jsonPath("$.followUpDate").value("2030-01-15"));
+    }
+
+    @Test
+    void deleteWritesTombstonesOnlyForOwnRows() throws Exception {
+        Cookie owner = register(mvc, "bulk-delete");
+        Cookie other = register(mvc, "bulk-delete-other");
+        long doomed = create(owner, "Acme", "APPLIED");
+        long kept = create(owner, "Globex", "APPLIED");
+        long foreign = create(other, "Umbrella", "APPLIED");
+
+        assertThat(bulk(owner, "{\"ids\":[%d,%d,%d],\"operation\":\"DELETE\"}".formatted(doomed, foreign, MISSING_ID)))
+                .containsExactly(doomed);
+
+        assertThat(tombstones(doomed)).isEqualTo(1);
+        assertThat(tombstones(foreign)).isZero();
+        assertThat(tombstones(MISSING_ID)).isZero();
+        mvc.perform(get("/applications/" + doomed).cookie(owner)).andExpect(status().isNotFound());
+        mvc.perform(get("/applications/" + kept).cookie(owner)).andExpect(status().isOk());
+        mvc.perform(get("/applications/" + foreign).cookie(other)).andExpect(status().isOk());
+    }
+
+    private long create(Cookie session, String company, String status) throws Exception {
+        String body = mvc.perform(post("/applications").cookie(session).contentType("application/json")
+                        .content("{\"company\":\"" + company + "\",\"role\":\"Dev\",\"status\":\"" + status + "\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private List<Long> bulk(Cookie session, String body) throws Exception {
+        String response = mvc.perform(patch("/applications/bulk").cookie(session)
+                        .contentType("application/json")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode id : objectMapper.readTree(response).get("affectedIds")) ids.add(id.asLong());
+        return ids;
+    }
+
+    /** Histórico além do registro da criação (from_status nulo). */
+    private List<String> transitions(long applicationId) {
+        return jdbcTemplate.query(
+                "SELECT from_status, to_status FROM status_history"
+                        + " WHERE application_id = ? AND from_status IS NOT NULL ORDER BY id",
+                (rs, row) -> rs.getString("from_status") + " -> " + rs.getString("to_status"),
+                applicationId
+        );
+    }
+
+    private int tombstones(long applicationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM application_tombstones WHERE application_id = ?", Integer.class, applicationId
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.diego.jobtracker.controller;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETag por usuário: no mesmo navegador (cache por URL), quem loga depois não pode
+ * receber 304 com o ETag guardado da sessão anterior.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void etagIsNotSharedBetweenUsers() throws Exception {
+        Cookie first = register(mvc, "etag-a");
+        Cookie second = register(mvc, "etag-b");
+
+        for (String url : new String[]{"/applications", "/dashboard"}) {
+            MockHttpServletResponse cached = mvc.perform(get(url).cookie(first))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            String etag = cached.getHeader("ETag");
+            assertThat(cached.getHeaders("Vary")).anyMatch(vary -> vary.contains("Cookie"));
+
+            mvc.perform(get(url).cookie(first).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+            mvc.perform(get(url).cookie(second).header("If-None-Match", etag))
+                    .andExpect(status().isOk());
+        }
+    }
+}
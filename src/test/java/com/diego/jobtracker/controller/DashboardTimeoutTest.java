@@ -0,0 +1,56 @@
+package com.diego.jobtracker.controller;
+
+import com.diego.jobtracker.service.JobApplicationService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Seção lenta do dashboard: o statement é cancelado pelo prazo (timeout da transação
+ * da seção) e o 503 sai perto de app.dashboard.timeout-ms, não quando a consulta acabaria.
+ */
+@SpringBootTest(properties = "app.dashboard.timeout-ms=1000")
+@AutoConfigureMockMvc
+class DashboardTimeoutTest {
+
+    // ~10^10 linhas: sem cancelamento, minutos de CPU no H2
+    private static final String SLOW_SQL =
+            "SELECT SUM(a.X * b.X) FROM SYSTEM_RANGE(1, 100000) a, SYSTEM_RANGE(1, 100000) b";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private JobApplicationService applicationService;
+
+    @Test
+    void slowSectionIsCancelledAtTheDeadline() throws Exception {
+        Cookie session = register(mvc, "dashboard-timeout");
+        doAnswer(invocation -> {
+            jdbcTemplate.queryForObject(SLOW_SQL, Long.class);
+            return invocation.callRealMethod();
+        }).when(applicationService).stats(any(), any());
+
+        long start = System.nanoTime();
+        mvc.perform(get("/dashboard").cookie(session))
+                .andExpect(status().isServiceUnavailable());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isBetween(900L, 3_000L);
+    }
+}
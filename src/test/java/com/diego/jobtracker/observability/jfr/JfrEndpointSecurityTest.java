@@ -0,0 +1,91 @@
+package com.diego.jobtracker.observability.jfr;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Na porta de gerenciamento só health e prometheus são abertos; o dump JFR
+ * precisa da credencial de operador, um usuário logado da API não basta. Banco H2 próprio: o contexto extra (porta real) não
+ * pode recriar o schema que os outros contextos em cache estão usando.
+ */
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:jfr-endpoint;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "management.server.port=0",
+                "management.endpoints.web.exposure.include=health,prometheus,jfr",
+                "app.jfr.enabled=true",
+                "app.jfr.operator.username=ops",
+                "app.jfr.operator.password=ops-secret"
+        }
+)
+class JfrEndpointSecurityTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @BeforeEach
+    void useJdkHttpClient() {
+        // HttpURLConnection lança HttpRetryException num 401 de POST em vez de devolver a resposta
+        rest.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+    }
+
+    @Test
+    void jfrDumpRequiresOperatorCredential() {
+        String management = "http://localhost:" + managementPort + "/actuator";
+
+        assertThat(rest.getForEntity(management + "/health", String.class).getStatusCode().value()).isEqualTo(200);
+        assertThat(rest.getForEntity(management + "/prometheus", String.class).getStatusCode().value()).isEqualTo(200);
+
+        ResponseEntity<byte[]> anonymous = rest.exchange(management + "/jfr", HttpMethod.POST, null, byte[].class);
+        assertThat(anonymous.getStatusCode().is4xxClientError()).isTrue();
+
+        HttpHeaders json = new HttpHeaders();
+        json.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<String> register = rest.postForEntity(
+                "http://localhost:" + port + "/auth/register",
+                new HttpEntity<>("{\"name\":\"Jfr\",\"email\":\"jfr-dump-" + System.nanoTime()
+                        + "@test.local\",\"password\":\"secret123\"}", json),
+                String.class);
+        String session = register.getHeaders().getFirst(HttpHeaders.SET_COOKIE).split(";", 2)[0];
+
+        HttpHeaders cookie = new HttpHeaders();
+        cookie.add(HttpHeaders.COOKIE, session);
+        ResponseEntity<byte[]> asUser = rest.exchange(
+                management + "/jfr", HttpMethod.POST, new HttpEntity<>(cookie), byte[].class);
+        assertThat(asUser.getStatusCode().is4xxClientError()).isTrue();
+
+        HttpHeaders operator = new HttpHeaders();
+        operator.setBasicAuth("ops", "wrong");
+        ResponseEntity<byte[]> wrongPassword = rest.exchange(
+                management + "/jfr", HttpMethod.POST, new HttpEntity<>(operator), byte[].class);
+        assertThat(wrongPassword.getStatusCode().is4xxClientError()).isTrue();
+
+        operator.setBasicAuth("ops", "ops-secret");
+        ResponseEntity<byte[]> dump = rest.exchange(
+                management + "/jfr", HttpMethod.POST, new HttpEntity<>(operator), byte[].class);
+        assertThat(dump.getStatusCode().value()).isEqualTo(200);
+        assertThat(dump.getBody()).isNotEmpty();
+    }
+}
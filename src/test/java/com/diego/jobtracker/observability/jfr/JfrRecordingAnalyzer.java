@@ -0,0 +1,153 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resume um .jfr (POST /actuator/jfr) por rota: latência das requisições e, por requisição,
+ * quantas vezes e quanto tempo cada evento jobtracker.* levou. Um evento pertence à
+ * requisição (jobtracker.HttpRequest) da mesma thread que o contém no tempo; o que roda em
+ * outras threads (seções do dashboard) cai em "(outside requests)".
+ *
+ * Uso: java ... JfrRecordingAnalyzer app.jfr
+ */
+public final class JfrRecordingAnalyzer {
+
+    static final String OUTSIDE_REQUESTS = "(outside requests)";
+
+    public record Breakdown(long count, Duration total) {
+        Breakdown plus(Breakdown other) {
+            return new Breakdown(count + other.count, total.plus(other.total));
+        }
+    }
+
+    public record RouteSummary(
+            String route,
+            int requests,
+            Duration p50,
+            Duration p95,
+            double sqlStatementsPerRequest,
+            Map<String, Breakdown> breakdown
+    ) {}
+
+    private JfrRecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: JfrRecordingAnalyzer <recording.jfr>");
+            System.exit(2);
+        }
+        System.out.print(format(analyze(Path.of(args[0]))));
+    }
+
+    public static Map<String, RouteSummary> analyze(Path recording) throws IOException {
+        Map<Long, List<RecordedEvent>> requestsByThread = new TreeMap<>();
+        List<RecordedEvent> children = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String type = event.getEventType().getName();
+            if (!type.startsWith("jobtracker.")) continue;
+            if (type.equals("jobtracker.HttpRequest")) {
+                requestsByThread.computeIfAbsent(threadId(event), id -> new ArrayList<>()).add(event);
+            } else {
+                children.add(event);
+            }
+        }
+
+        Map<RecordedEvent, Map<String, Breakdown>> perRequest = new LinkedHashMap<>();
+        Map<String, Breakdown> outside = new TreeMap<>();
+        for (RecordedEvent child : children) {
+            RecordedEvent request = enclosing(requestsByThread.getOrDefault(threadId(child), List.of()), child);
+            Map<String, Breakdown> target = request == null
+                    ? outside
+                    : perRequest.computeIfAbsent(request, r -> new TreeMap<>());
+            target.merge(label(child), new Breakdown(1, child.getDuration()), Breakdown::plus);
+        }
+
+        Map<String, List<RecordedEvent>> byRoute = new TreeMap<>();
+        requestsByThread.values().stream().flatMap(List::stream).forEach(request ->
+                byRoute.computeIfAbsent(request.getString("method") + " " + request.getString("route"),
+                        route -> new ArrayList<>()).add(request));
+
+        Map<String, RouteSummary> summaries = new LinkedHashMap<>();
+        byRoute.forEach((route, requests) -> {
+            List<Duration> durations = requests.stream().map(RecordedEvent::getDuration).sorted().toList();
+            Map<String, Breakdown> breakdown = new TreeMap<>();
+            requests.forEach(request -> perRequest.getOrDefault(request, Map.of()).forEach((label, part) ->
+                    breakdown.merge(label, part, Breakdown::plus)));
+            double sql = requests.stream().mapToLong(request -> request.getLong("sqlStatements")).average().orElse(0);
+            summaries.put(route, new RouteSummary(
+                    route, requests.size(), percentile(durations, 0.5), percentile(durations, 0.95), sql, breakdown
+            ));
+        });
+        if (!outside.isEmpty()) {
+            summaries.put(OUTSIDE_REQUESTS, new RouteSummary(OUTSIDE_REQUESTS, 0, Duration.ZERO, Duration.ZERO, 0, outside));
+        }
+        return summaries;
+    }
+
+    public static String format(Map<String, RouteSummary> summaries) {
+        StringBuilder out = new StringBuilder();
+        summaries.values().stream()
+                .sorted(Comparator.comparingInt(RouteSummary::requests).reversed())
+                .forEach(summary -> {
+                    int perRequest = Math.max(1, summary.requests());
+                    out.append(String.format(Locale.ROOT, "%s  n=%d  p50=%.2fms  p95=%.2fms  sql/req=%.1f%n",
+                            summary.route(), summary.requests(), millis(summary.p50()), millis(summary.p95()),
+                            summary.sqlStatementsPerRequest()));
+                    summary.breakdown().forEach((label, part) -> out.append(String.format(Locale.ROOT,
+                            "    %-60s %6.2f/req  %8.3f ms/req%n",
+                            label, part.count() / (double) perRequest, millis(part.total()) / perRequest)));
+                });
+        return out.toString();
+    }
+
+    private static RecordedEvent enclosing(List<RecordedEvent> requests, RecordedEvent child) {
+        Instant start = child.getStartTime();
+        for (RecordedEvent request : requests) {
+            if (!start.isBefore(request.getStartTime()) && !child.getEndTime().isAfter(request.getEndTime())) {
+                return request;
+            }
+        }
+        return null;
+    }
+
+    private static String label(RecordedEvent event) {
+        return switch (event.getEventType().getName()) {
+            case "jobtracker.RepositoryCall" -> "repository " + event.getString("repository") + "." + event.getString("method");
+            case "jobtracker.JwtVerify" -> "jwt " + event.getString("result");
+            case "jobtracker.UserResolution" -> "user " + event.getString("source");
+            case "jobtracker.StatusChange" -> "status-change";
+            case "jobtracker.Serialization" -> "serialize " + event.getString("payloadType");
+            default -> event.getEventType().getName();
+        };
+    }
+
+    private static long threadId(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return thread == null ? -1 : thread.getJavaThreadId();
+    }
+
+    private static Duration percentile(List<Duration> sorted, double quantile) {
+        if (sorted.isEmpty()) return Duration.ZERO;
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,66 @@
+package com.diego.jobtracker.observability.jfr;
+
+import jakarta.servlet.http.Cookie;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Grava os eventos jobtracker.* enquanto faz algumas requisições e confere que o
+ * analisador atribui cada um à rota certa.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JfrRecordingAnalyzerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void summarizesEventsPerRoute(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            JfrRecorder.EVENTS.forEach(recording::enable);
+            recording.start();
+
+            Cookie session = register(mvc, "jfr");
+            for (int i = 0; i < 3; i++) {
+                mvc.perform(post("/applications").cookie(session).contentType("application/json")
+                                .content("{\"company\":\"Acme " + i + "\",\"role\":\"Dev\",\"status\":\"APPLIED\"}"))
+                        .andExpect(status().is2xxSuccessful());
+                mvc.perform(get("/applications").param("cursor", "").param("size", "10").cookie(session))
+                        .andExpect(status().isOk());
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, JfrRecordingAnalyzer.RouteSummary> summaries = JfrRecordingAnalyzer.analyze(file);
+
+        JfrRecordingAnalyzer.RouteSummary create = summaries.get("POST /applications");
+        assertThat(create.requests()).isEqualTo(3);
+        assertThat(create.breakdown()).containsKeys("user claim", "status-change");
+        assertThat(create.breakdown().keySet()).anyMatch(label -> label.startsWith("jwt "));
+        assertThat(create.breakdown().get("status-change").count()).isEqualTo(3);
+        assertThat(create.breakdown().keySet()).anyMatch(label -> label.startsWith("repository JobApplicationRepository."));
+
+        JfrRecordingAnalyzer.RouteSummary list = summaries.get("GET /applications");
+        assertThat(list.requests()).isEqualTo(3);
+        assertThat(list.breakdown()).containsKey("serialize SliceResponse");
+        assertThat(list.sqlStatementsPerRequest()).isPositive();
+    }
+}
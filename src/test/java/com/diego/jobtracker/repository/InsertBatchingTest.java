@@ -0,0 +1,220 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.dto.BulkMutationRequest;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.model.StatusHistory;
+import com.diego.jobtracker.model.User;
+import com.diego.jobtracker.service.FileFormat;
+import com.diego.jobtracker.service.JobApplicationBulkService;
+import com.diego.jobtracker.service.JobApplicationImportService;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conta os statements JDBC de cada caminho de escrita e garante que os INSERTs
+ * saem em batch (ids por sequence pooled, hibernate.jdbc.batch_size).
+ */
+@SpringBootTest
+class InsertBatchingTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private StatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private JobApplicationImportService importService;
+
+    @Autowired
+    private JobApplicationBulkService bulkService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingListener statements;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setName("Batch");
+        user.setEmail("batch-" + System.nanoTime() + "@test.local");
+        user.setPasswordHash("x");
+        user = userRepository.save(user);
+        statements.clear();
+    }
+
+    @Test
+    void applicationAndHistoryAreInsertedInBatches() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 20; i++) {
+                JobApplication app = newApplication("Company " + i);
+                applicationRepository.save(app);
+                statusHistoryRepository.save(newHistory(app));
+            }
+        });
+
+        assertThat(statements.inserts()).allMatch(Statement::batch);
+        assertThat(statements.insertsInto("job_applications"))
+                .singleElement()
+                .satisfies(insert -> assertThat(insert.rows()).isEqualTo(20));
+        assertThat(statements.insertsInto("status_history"))
+                .singleElement()
+                .satisfies(insert -> assertThat(insert.rows()).isEqualTo(20));
+    }
+
+    @Test
+    void singleCreateWithHistoryUsesBatchedInserts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            JobApplication app = applicationRepository.save(newApplication("Single"));
+            statusHistoryRepository.save(newHistory(app));
+        });
+
+        assertThat(statements.inserts()).hasSize(2).allMatch(Statement::batch);
+    }
+
+    @Test
+    void bulkImportInsertsEachChunkInBatches() throws IOException {
+        String csv = "company,role,status\n"
+                + IntStream.range(0, 10).mapToObj(i -> "Acme " + i + ",Dev,APPLIED\n").reduce("", String::concat);
+
+        importService.importApplications(
+                user.getId(),
+                FileFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                result -> { }
+        );
+
+        assertThat(statements.inserts()).allMatch(Statement::batch);
+        assertThat(statements.insertsInto("job_applications"))
+                .singleElement()
+                .satisfies(insert -> assertThat(insert.rows()).isEqualTo(10));
+        assertThat(statements.insertsInto("status_history"))
+                .singleElement()
+                .satisfies(insert -> assertThat(insert.rows()).isEqualTo(10));
+    }
+
+    @Test
+    void bulkStatusChangeWritesHistoryInOneBatch() {
+        List<Long> ids = transactionTemplate.execute(status -> IntStream.range(0, 5)
+                .mapToObj(i -> applicationRepository.save(newApplication("Bulk " + i)).getId())
+                .toList());
+        statements.clear();
+
+        bulkService.apply(user.getId(), new BulkMutationRequest(
+                ids, BulkMutationRequest.Operation.SET_STATUS, ApplicationStatus.INTERVIEW, null, null
+        ));
+
+        assertThat(statements.updatesOf("job_applications")).hasSize(1);
+        assertThat(statements.insertsInto("status_history"))
+                .singleElement()
+                .satisfies(insert -> {
+                    assertThat(insert.batch()).isTrue();
+                    assertThat(insert.rows()).isEqualTo(5);
+                });
+    }
+
+    private JobApplication newApplication(String company) {
+        JobApplication app = new JobApplication();
+        app.setCompany(company);
+        app.setRole("Dev");
+        app.setStatus(ApplicationStatus.APPLIED);
+        app.setUser(user);
+        return app;
+    }
+
+    private StatusHistory newHistory(JobApplication app) {
+        StatusHistory history = new StatusHistory();
+        history.setApplication(app);
+        history.setUser(user);
+        history.setToStatus(app.getStatus());
+        return history;
+    }
+
+    record Statement(String sql, boolean batch, int rows) {
+    }
+
+    static class RecordingListener implements QueryExecutionListener {
+
+        private final List<Statement> executed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo query : queryInfoList) {
+                int rows = execInfo.isBatch() ? query.getParametersList().size() : 1;
+                executed.add(new Statement(query.getQuery().trim().toLowerCase(Locale.ROOT), execInfo.isBatch(), rows));
+            }
+        }
+
+        void clear() {
+            executed.clear();
+        }
+
+        List<Statement> inserts() {
+            return executed.stream().filter(statement -> statement.sql().startsWith("insert")).toList();
+        }
+
+        List<Statement> insertsInto(String table) {
+            return inserts().stream().filter(statement -> statement.sql().startsWith("insert into " + table)).toList();
+        }
+
+        List<Statement> updatesOf(String table) {
+            return executed.stream().filter(statement -> statement.sql().startsWith("update " + table)).toList();
+        }
+    }
+
+    @TestConfiguration
+    static class ProxyConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+
+        @Bean
+        static BeanPostProcessor proxyDataSource(ObjectProvider<RecordingListener> listener) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(listener.getObject()).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.diego.jobtracker.repository;
+
+import com.diego.jobtracker.model.ApplicationPriority;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante, pelo EXPLAIN do SQL que o Hibernate gera de fato, que toda combinação de
+ * filtros do JobApplicationFilter roda como index scan no PostgreSQL (migrations reais,
+ * planner com seq scan liberado), por um índice que serve a consulta: o da ordem padrão
+ * (user_id, applied_date, id) ou o de um dos critérios presentes. Qual deles ganha depende
+ * da seletividade; um índice que não tem a ver com os filtros (ou seq scan) é regressão.
+ *
+ * Base com distribuição parecida com produção: 2.000 usuários com 20–150 candidaturas
+ * e alguns "pesados" com 3.000, status/prioridade desbalanceados, datas espalhadas em
+ * dois anos e empresas repetidas. A consulta é a da listagem: filtros + ordem padrão
+ * (appliedDate desc, id desc) + página de 20, para um usuário pesado e um típico.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.datasource.driver-class-name=org.postgresql.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class JobApplicationFilterIndexTest {
+
+    private static final String APPLIED_DATE_INDEX = "idx_job_applications_user_applied_date";
+    private static final String STATUS_INDEX = "idx_job_applications_user_status_follow_up";
+    private static final String PRIORITY_INDEX = "idx_job_applications_user_priority";
+    private static final String FOLLOW_UP_INDEX = "idx_job_applications_user_follow_up";
+    private static final String COMPANY_PREFIX_INDEX = "idx_job_applications_user_company_prefix";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TestConfiguration
+    static class CaptureSql {
+        static final List<QueryInfo> queries = new CopyOnWriteArrayList<>();
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) return bean;
+                    return ProxyDataSourceBuilder.create(dataSource).listener(new QueryExecutionListener() {
+                        @Override
+                        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        }
+
+                        @Override
+                        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                            queries.addAll(queryInfoList);
+                        }
+                    }).build();
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JobApplicationRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Long heavyUser;
+    private Long typicalUser;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("SELECT setseed(0.42)");
+        jdbcTemplate.update("""
+                INSERT INTO users (name, email, password_hash)
+                SELECT 'User ' || g, 'user-' || g || '@index.local', 'x'
+                FROM generate_series(1, 2000) AS g
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO job_applications
+                    (company, role, status, priority, applied_date, follow_up_date, user_id)
+                SELECT
+                    (ARRAY['Nubank', 'Itaú', 'iFood', 'Stone', 'Globo', 'TOTVS', 'Mercado Livre',
+                           'PicPay', 'Creditas', 'Loft', 'QuintoAndar', 'Vtex'])[1 + floor(random() * 12)::int]
+                        || ' ' || floor(random() * 50)::int,
+                    'Backend Developer',
+                    CASE WHEN r < 0.60 THEN 'APPLIED' WHEN r < 0.80 THEN 'REJECTED'
+                         WHEN r < 0.95 THEN 'INTERVIEW' ELSE 'OFFER' END,
+                    CASE WHEN random() < 0.5 THEN 'MEDIUM' WHEN random() < 0.6 THEN 'LOW' ELSE 'HIGH' END,
+                    DATE '2023-01-01' + floor(random() * 730)::int,
+                    CASE WHEN random() < 0.4 THEN NULL ELSE DATE '2023-01-15' + floor(random() * 730)::int END,
+                    user_id
+                FROM (
+                    SELECT u.id AS user_id, random() AS r
+                    FROM users u
+                    CROSS JOIN LATERAL generate_series(1, CASE WHEN u.id % 400 = 0 THEN 3000
+                                                               ELSE 20 + (u.id * 7919) % 130 END)
+                ) AS rows
+                """);
+        // amostra do ANALYZE = tabela inteira: estatísticas (e planos) iguais em toda execução
+        jdbcTemplate.execute("SET default_statistics_target = 10000");
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE job_applications");
+
+        heavyUser = jdbcTemplate.queryForObject("SELECT min(id) FROM users WHERE id % 400 = 0", Long.class);
+        typicalUser = jdbcTemplate.queryForObject("""
+                SELECT user_id FROM job_applications GROUP BY user_id HAVING count(*) BETWEEN 80 AND 100
+                ORDER BY user_id LIMIT 1
+                """, Long.class);
+    }
+
+    @Test
+    void everyFilterCombinationUsesTheExpectedIndex() throws Exception {
+        for (Long userId : List.of(heavyUser, typicalUser)) {
+            List<JobApplicationFilter> combinations = allCombinations(userId);
+            assertThat(combinations).hasSize(128);
+
+            for (JobApplicationFilter filter : combinations) {
+                List<JsonNode> scans = scansOfJobApplications(explain(filter));
+
+                assertThat(scans).as("scans of job_applications for %s", filter).hasSize(1);
+                JsonNode scan = scans.getFirst();
+                assertThat(scan.path("Node Type").asText())
+                        .as("node type for %s", filter)
+                        .isIn("Index Scan", "Index Only Scan", "Bitmap Heap Scan");
+                assertThat(indexName(scan)).as("index for %s", filter).isIn(servingIndexes(filter));
+                assertThat(indexCondition(scan)).as("index condition for %s", filter).contains("user_id");
+            }
+        }
+    }
+
+    // cada critério sozinho, para um usuário típico, usa o próprio índice: sem ele a consulta cairia no da ordem
+    @Test
+    void eachCriterionUsesItsOwnIndex() throws Exception {
+        Map<JobApplicationFilter, String> expected = new LinkedHashMap<>();
+        expected.put(typical(Set.of(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER), Set.of(), null, null, null, null, null),
+                STATUS_INDEX);
+        expected.put(typical(Set.of(), Set.of(ApplicationPriority.HIGH), null, null, null, null, null),
+                PRIORITY_INDEX);
+        expected.put(typical(Set.of(), Set.of(), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 5, 1), null, null, null),
+                APPLIED_DATE_INDEX);
+        expected.put(typical(Set.of(), Set.of(), null, null, LocalDate.of(2024, 6, 10), LocalDate.of(2024, 9, 1), null),
+                FOLLOW_UP_INDEX);
+        expected.put(typical(Set.of(), Set.of(), null, null, null, null, "nu"),
+                COMPANY_PREFIX_INDEX);
+
+        for (Map.Entry<JobApplicationFilter, String> entry : expected.entrySet()) {
+            List<JsonNode> scans = scansOfJobApplications(explain(entry.getKey()));
+            assertThat(scans).as("scans of job_applications for %s", entry.getKey()).hasSize(1);
+            assertThat(scans.getFirst().path("Node Type").asText()).isEqualTo("Index Scan");
+            assertThat(indexName(scans.getFirst())).as("index for %s", entry.getKey()).isEqualTo(entry.getValue());
+        }
+    }
+
+    private JobApplicationFilter typical(
+            Set<ApplicationStatus> statuses,
+            Set<ApplicationPriority> priorities,
+            LocalDate appliedFrom,
+            LocalDate appliedTo,
+            LocalDate followUpFrom,
+            LocalDate followUpTo,
+            String companyPrefix
+    ) {
+        return new JobApplicationFilter(
+                typicalUser, statuses, priorities, appliedFrom, appliedTo, followUpFrom, followUpTo, companyPrefix
+        );
+    }
+
+    /** Índices que servem a consulta: o da ordem padrão e o de cada critério presente (ver JobApplicationFilter). */
+    private static List<String> servingIndexes(JobApplicationFilter filter) {
+        List<String> indexes = new ArrayList<>(List.of(APPLIED_DATE_INDEX));
+        if (filter.hasStatuses()) indexes.add(STATUS_INDEX);
+        if (filter.hasPriorities()) indexes.add(PRIORITY_INDEX);
+        if (filter.followUpFrom() != null || filter.followUpTo() != null) indexes.add(FOLLOW_UP_INDEX);
+        if (filter.hasCompanyPrefix()) indexes.add(COMPANY_PREFIX_INDEX);
+        return indexes;
+    }
+
+    /** Roda a listagem pelo repositório e faz EXPLAIN do SELECT que ela gerou, com os mesmos parâmetros. */
+    private JsonNode explain(JobApplicationFilter filter) throws Exception {
+        CaptureSql.queries.clear();
+        repository.findAll(
+                JobApplicationSpecifications.matching(filter),
+                PageRequest.of(0, 20, Sort.by(Sort.Order.desc("appliedDate"), Sort.Order.desc("id")))
+        );
+        QueryInfo select = CaptureSql.queries.stream()
+                .filter(query -> query.getQuery().contains(" order by "))
+                .findFirst()
+                .orElseThrow();
+        Object[] args = select.getParametersList().getFirst().stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(JobApplicationFilterIndexTest::parameterValue)
+                .toArray();
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + select.getQuery(), String.class, args);
+        return objectMapper.readTree(plan).get(0).get("Plan");
+    }
+
+    private static Object parameterValue(ParameterSetOperation operation) {
+        return operation.getArgs()[1];
+    }
+
+    private static List<JsonNode> scansOfJobApplications(JsonNode plan) {
+        List<JsonNode> scans = new ArrayList<>();
+        collectScans(plan, scans);
+        return scans;
+    }
+
+    private static void collectScans(JsonNode node, List<JsonNode> scans) {
+        if ("job_applications".equals(node.path("Relation Name").asText())) {
+            scans.add(node);
+        }
+        node.path("Plans").forEach(child -> collectScans(child, scans));
+    }
+
+    /** Index Scan/Index Only Scan trazem o índice no próprio nó; Bitmap Heap Scan, no Bitmap Index Scan filho. */
+    private static String indexName(JsonNode scan) {
+        return indexNode(scan).path("Index Name").asText();
+    }
+
+    private static String indexCondition(JsonNode scan) {
+        return indexNode(scan).path("Index Cond").asText();
+    }
+
+    private static JsonNode indexNode(JsonNode scan) {
+        return scan.has("Index Name") ? scan : scan.path("Plans").path(0);
+    }
+
+    private static List<JobApplicationFilter> allCombinations(Long userId) {
+        List<JobApplicationFilter> filters = new ArrayList<>();
+        for (int mask = 0; mask < 128; mask++) {
+            filters.add(new JobApplicationFilter(
+                    userId,
+                    (mask & 1) != 0 ? Set.of(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER) : Set.of(),
+                    (mask & 2) != 0 ? Set.of(ApplicationPriority.HIGH) : Set.of(),
+                    (mask & 4) != 0 ? LocalDate.of(2024, 2, 1) : null,
+                    (mask & 8) != 0 ? LocalDate.of(2024, 5, 1) : null,
+                    (mask & 16) != 0 ? LocalDate.of(2024, 6, 10) : null,
+                    (mask & 32) != 0 ? LocalDate.of(2024, 9, 1) : null,
+                    (mask & 64) != 0 ? "nu" : null
+            ));
+        }
+        return filters;
+    }
+}
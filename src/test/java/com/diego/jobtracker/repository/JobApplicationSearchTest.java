@@ -0,0 +1,88 @@
+package com.diego.jobtracker.repository;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.diego.jobtracker.support.TestSessions.register;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Busca textual: os termos perdem acento pela mesma tabela de jt_unaccent e o fallback
+ * do H2 casa prefixo de palavra, como o term:* do PostgreSQL.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JobApplicationSearchTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void termsUseTheJtUnaccentTable() throws Exception {
+        String v6 = new ClassPathResource("db/migration/V6__add_full_text_search.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+        assertThat(v6).contains("'" + JobApplicationSearchRepositoryImpl.ACCENTED + "'")
+                .contains("'" + JobApplicationSearchRepositoryImpl.UNACCENTED + "'");
+
+        assertThat(JobApplicationSearchRepositoryImpl.terms("Ação em São-Paulo"))
+                .containsExactly("acao", "em", "sao", "paulo");
+        // decomposto (e + acento combinante) vira a forma composta antes da tabela
+        assertThat(JobApplicationSearchRepositoryImpl.terms("cafe\u0301")).containsExactly("cafe");
+        // ř fora da tabela: fica como está, igual ao texto indexado
+        assertThat(JobApplicationSearchRepositoryImpl.terms("Dvořák")).containsExactly("dvořak");
+    }
+
+    @Test
+    void h2FallbackMatchesWordPrefixes() throws Exception {
+        Cookie session = register(mvc, "search");
+        mvc.perform(post("/applications").cookie(session).contentType("application/json")
+                        .content("{\"company\":\"São Paulo Tech\",\"role\":\"Engenheiro de Dados\",\"status\":\"APPLIED\"}"))
+                .andExpect(status().is2xxSuccessful());
+
+        for (String query : new String[]{"eng", "sao", "PAULO", "dados tech"}) {
+            mvc.perform(get("/applications").param("q", query).cookie(session))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+        for (String query : new String[]{"genheiro", "aulo", "ados"}) {
+            mvc.perform(get("/applications").param("q", query).cookie(session))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(0));
+        }
+    }
+
+    @Test
+    void exportAppliesTheSameSearch() throws Exception {
+        Cookie session = register(mvc, "search-export");
+        for (String company : new String[]{"São Paulo Tech", "Rio Labs"}) {
+            mvc.perform(post("/applications").cookie(session).contentType("application/json")
+                            .content("{\"company\":\"" + company + "\",\"role\":\"Dev\",\"status\":\"APPLIED\"}"))
+                    .andExpect(status().is2xxSuccessful());
+        }
+
+        MvcResult started = mvc.perform(get("/applications/export").param("format", "csv")
+                        .param("q", "sao").cookie(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(csv.lines()).hasSize(2);
+        assertThat(csv).contains("São Paulo Tech").doesNotContain("Rio Labs");
+    }
+}
@@ -0,0 +1,37 @@
+package com.diego.jobtracker.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Cursor vem do cliente: qualquer conteúdo malformado vira IllegalArgumentException (400).
+ */
+class KeysetCursorTest {
+
+    @Test
+    void roundTrips() {
+        KeysetCursor cursor = new KeysetCursor(KeysetOrder.APPLIED_DATE_DESC, LocalDate.of(2024, 3, 1), 42);
+        assertThat(KeysetCursor.decode(cursor.encode(), KeysetOrder.APPLIED_DATE_DESC)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        for (String raw : new String[]{
+                "v1:APPLIED_DATE_DESC:xx:1",
+                "v1:APPLIED_DATE_DESC:2024-03-01:abc",
+                "v1:NOPE:2024-03-01:1",
+                "v2:APPLIED_DATE_DESC:2024-03-01:1"
+        }) {
+            String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+            assertThatIllegalArgumentException()
+                    .as(raw)
+                    .isThrownBy(() -> KeysetCursor.decode(token, KeysetOrder.APPLIED_DATE_DESC));
+        }
+    }
+}
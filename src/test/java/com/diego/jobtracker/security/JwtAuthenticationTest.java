@@ -0,0 +1,100 @@
+package com.diego.jobtracker.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static com.diego.jobtracker.support.TestSessions.registerEmail;
+import static com.diego.jobtracker.support.TestSessions.uniqueEmail;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Resolução do usuário no JwtAuthenticationFilter: tokens antigos (sem o claim uid)
+ * ainda autenticam pelo email, e um uid que não é da conta do subject é recusado.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+
+    @Test
+    void tokenWithoutUidStillAuthenticatesByEmail() throws Exception {
+        String email = uniqueEmail("legacy");
+        long id = idOf(registerEmail(mvc, email));
+
+        mvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token(email).compact()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.email").value(email));
+    }
+
+    @Test
+    void uidClaimIsUsedWhenItMatchesTheSubject() throws Exception {
+        String email = uniqueEmail("uid");
+        long id = idOf(registerEmail(mvc, email));
+
+        mvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(email, id)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id));
+    }
+
+    @Test
+    void uidOfAnotherAccountIsRejected() throws Exception {
+        String victim = uniqueEmail("victim");
+        long victimId = idOf(registerEmail(mvc, victim));
+        String attacker = uniqueEmail("attacker");
+        registerEmail(mvc, attacker);
+
+        // subject do atacante com o id da vítima: nenhum dos dois é autenticado
+        int status = mvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(attacker, victimId)))
+                .andReturn().getResponse().getStatus();
+        assertThat(status).isIn(401, 403);
+        status = mvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(attacker, 999_999_999L)))
+                .andReturn().getResponse().getStatus();
+        assertThat(status).isIn(401, 403);
+    }
+
+    private String bearer(String subject, long userId) {
+        return "Bearer " + token(subject).claim(JwtService.USER_ID_CLAIM, userId).compact();
+    }
+
+    private JwtBuilder token(String subject) {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long idOf(Cookie session) throws Exception {
+        String body = mvc.perform(get("/auth/me").cookie(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,217 @@
+package com.diego.jobtracker.security;
+
+import com.diego.jobtracker.model.User;
+import com.diego.jobtracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.diego.jobtracker.support.TestSessions.PASSWORD;
+import static com.diego.jobtracker.support.TestSessions.register;
+import static com.diego.jobtracker.support.TestSessions.uniqueEmail;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Proteção do /auth/login: 429 com Retry-After pelos buckets de IP e de email, 503 com
+ * o pool de hash (1 thread, fila de 1) ocupado, e GET /applications respondendo no meio
+ * de uma rajada de logins. Cada teste usa IPs próprios (remoteAddr) para não dividir bucket.
+ */
+@SpringBootTest(properties = {
+        "app.auth.rate-limit.ip.capacity=5",
+        "app.auth.rate-limit.ip.per-minute=5",
+        "app.auth.rate-limit.email.capacity=3",
+        "app.auth.rate-limit.email.per-minute=3",
+        "app.auth.hashing.threads=1",
+        "app.auth.hashing.queue-size=1",
+        "app.auth.hashing.timeout-ms=1000"
+})
+@AutoConfigureMockMvc
+class LoginThrottlingTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void ipBucketAnswers429WithRetryAfter() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(login("10.0.1.1", uniqueEmail("ip"), "wrong").getStatus()).isEqualTo(401);
+        }
+
+        MockHttpServletResponse throttled = login("10.0.1.1", uniqueEmail("ip"), "wrong");
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertRetryAfter(throttled, 60);
+        // outro IP tem o próprio bucket
+        assertThat(login("10.0.1.2", uniqueEmail("ip"), "wrong").getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void emailBucketAnswers429AcrossIps() throws Exception {
+        String email = uniqueEmail("email");
+        for (int i = 1; i <= 3; i++) {
+            assertThat(login("10.0.2." + i, email, "wrong").getStatus()).isEqualTo(401);
+        }
+
+        MockHttpServletResponse throttled = login("10.0.2.4", email.toUpperCase(), "wrong");
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertRetryAfter(throttled, 60);
+    }
+
+    @Test
+    void busyHasherAnswers503() throws Exception {
+        // gravado direto: o cadastro gastaria um dos 3 tokens do email
+        String email = userRepository.save(user(uniqueEmail("hasher"), passwordEncoder.encode(PASSWORD))).getEmail();
+        double timeouts = rejected("timeout");
+        double queueFull = rejected("queue-full");
+
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordHasher, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            // a única thread está ocupada: o login espera na fila até o timeout
+            long start = System.nanoTime();
+            MockHttpServletResponse timedOut = login("10.0.3.2", email, PASSWORD);
+            assertThat(timedOut.getStatus()).isEqualTo(503);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isBetween(900L, 5_000L);
+            assertRetryAfter(timedOut, 1);
+
+            // a tarefa cancelada ainda ocupa a fila: rejeitado na hora
+            MockHttpServletResponse rejected = login("10.0.3.3", email, PASSWORD);
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertRetryAfter(rejected, 1);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(rejected("timeout")).isEqualTo(timeouts + 1);
+        assertThat(rejected("queue-full")).isEqualTo(queueFull + 1);
+        assertThat(login("10.0.3.4", email, PASSWORD).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void authenticatedReadsKeepAnsweringDuringALoginFlood() throws Exception {
+        Cookie session = register(mvc, "reader");
+        mvc.perform(get("/applications").cookie(session));
+
+        // 3 tentativas por email: 50 contas mantêm o pool de hash cheio durante o teste
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<String> targets = IntStream.range(0, 50)
+                .mapToObj(i -> userRepository.save(user(uniqueEmail("flood-" + i), hash)).getEmail())
+                .toList();
+
+        AtomicBoolean flooding = new AtomicBoolean(true);
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger busy = new AtomicInteger();
+        ExecutorService flood = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            flood.execute(() -> {
+                while (flooding.get()) {
+                    int n = attempts.incrementAndGet();
+                    try {
+                        String ip = "10.1." + (n / 250) + "." + (n % 250);
+                        if (login(ip, targets.get(n % targets.size()), "wrong").getStatus() == 503) {
+                            busy.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            });
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        try {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (busy.get() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(busy.get()).as("pool de hash saturado").isPositive();
+
+            for (int i = 0; i < 20; i++) {
+                long start = System.nanoTime();
+                int status = mvc.perform(get("/applications").cookie(session)).andReturn().getResponse().getStatus();
+                latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                assertThat(status).isEqualTo(200);
+            }
+        } finally {
+            flooding.set(false);
+            flood.shutdown();
+            assertThat(flood.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // BCrypt fica no pool de 1 thread: a leitura não espera por ele
+        assertThat(latencies).allMatch(ms -> ms < 1_000, "cada GET abaixo de 1 s");
+    }
+
+    private MockHttpServletResponse login(String ip, String email, String password) throws Exception {
+        return mvc.perform(post("/auth/login").with(from(ip)).contentType("application/json")
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .andReturn().getResponse();
+    }
+
+    private static RequestPostProcessor from(String ip) {
+        return request -> {
+            request.setRemoteAddr(ip);
+            return request;
+        };
+    }
+
+    private static void assertRetryAfter(MockHttpServletResponse response, long maxSeconds) {
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, maxSeconds);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("auth.password.rejected").tag("reason", reason).counter().count();
+    }
+
+    private static User user(String email, String passwordHash) {
+        User user = new User();
+        user.setName("Flood");
+        user.setEmail(email);
+        user.setPasswordHash(passwordHash);
+        user.setLanguage("pt");
+        user.setTheme("light");
+        user.setSidebarVisible(true);
+        return user;
+    }
+}
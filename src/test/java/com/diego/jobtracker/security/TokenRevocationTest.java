@@ -0,0 +1,53 @@
+package com.diego.jobtracker.security;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.diego.jobtracker.support.TestSessions.login;
+import static com.diego.jobtracker.support.TestSessions.registerEmail;
+import static com.diego.jobtracker.support.TestSessions.uniqueEmail;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Depois do logout, uma cópia do token deixa de autenticar (cookie ou Bearer),
+ * inclusive depois de o filtro ser remontado do banco; os outros tokens seguem valendo.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenRevocationTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Test
+    void logoutRevokesOnlyTheSessionToken() throws Exception {
+        String email = uniqueEmail("revoke");
+        Cookie first = registerEmail(mvc, email);
+        Cookie second = login(mvc, email);
+
+        mvc.perform(get("/auth/me").cookie(first)).andExpect(status().isOk());
+        mvc.perform(post("/auth/logout").cookie(first)).andExpect(status().isNoContent());
+
+        assertThat(mvc.perform(get("/auth/me").cookie(first)).andReturn().getResponse().getStatus())
+                .isIn(401, 403);
+        assertThat(mvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + first.getValue()))
+                .andReturn().getResponse().getStatus()).isIn(401, 403);
+        mvc.perform(get("/auth/me").cookie(second)).andExpect(status().isOk());
+
+        revocationList.refresh();
+        assertThat(mvc.perform(get("/auth/me").cookie(first)).andReturn().getResponse().getStatus())
+                .isIn(401, 403);
+        mvc.perform(get("/auth/me").cookie(second)).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,79 @@
+package com.diego.jobtracker.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VerifiedTokenCache: acerto para o mesmo token, entrada que some no "exp" do token e
+ * falta para um token com o mesmo header/payload e outra assinatura (a chave é o
+ * SHA-256 do token inteiro).
+ */
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache cache;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        cache.init();
+
+        jwtService = new JwtService(cache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", "test-secret-key-only-for-unit-tests-minimum-32chars");
+        ReflectionTestUtils.setField(jwtService, "expirationMs", 60_000L);
+        jwtService.init();
+    }
+
+    @Test
+    void sameTokenHitsTheCache() {
+        String token = jwtService.generateToken(7L, "ana@test.local");
+
+        TokenClaims verified = jwtService.verify(token).orElseThrow();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getHits()).isZero();
+
+        assertThat(jwtService.verify(token)).contains(verified);
+        assertThat(cache.get(token)).isSameAs(verified);
+        assertThat(cache.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void entryExpiresAtTheTokenExp() throws InterruptedException {
+        Instant exp = Instant.now().plusMillis(500);
+        cache.put("token", new TokenClaims("ana@test.local", 7L, "jti", exp));
+        assertThat(cache.get("token")).isNotNull();
+
+        Thread.sleep(Math.max(Duration.between(Instant.now(), exp).toMillis(), 0) + 100);
+        assertThat(cache.get("token")).isNull();
+
+        // já expirado ao entrar: nunca é devolvido
+        cache.put("old", new TokenClaims("ana@test.local", 7L, "jti", Instant.now().minusSeconds(1)));
+        assertThat(cache.get("old")).isNull();
+    }
+
+    @Test
+    void differentSignatureMissesTheCache() {
+        String token = jwtService.generateToken(7L, "ana@test.local");
+        jwtService.verify(token).orElseThrow();
+
+        // mesmo header.payload, primeiro caractere da assinatura trocado
+        int signature = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signature);
+        String tampered = token.substring(0, signature) + (first == 'A' ? 'B' : 'A') + token.substring(signature + 1);
+
+        long misses = cache.getMisses();
+        assertThat(cache.get(tampered)).isNull();
+        assertThat(cache.getMisses()).isEqualTo(misses + 1);
+        // sem acerto no cache, a assinatura é checada de novo e o token é recusado
+        assertThat(jwtService.verify(tampered)).isEmpty();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.ApplicationChangesResponse;
+import com.diego.jobtracker.dto.UpsertJobApplicationRequest;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.repository.ChangeToken;
+import com.diego.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.diego.jobtracker.support.TestUsers.newUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Token do GET /applications/changes: polls sem nenhuma escrita no meio continuam
+ * avançando o token (senão ele passa da retenção e vira 410) e uma remoção feita
+ * depois ainda chega em deleted.
+ */
+@SpringBootTest
+class ApplicationChangesTest {
+
+    @Autowired
+    private JobApplicationService applicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void tokenAdvancesWithoutWritesAndLaterDeletesAreSeen() {
+        Long userId = newUser(userRepository, "Changes").getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        ApplicationChangesResponse initial = applicationService.changes(userId, null, 50, now.minusMinutes(3));
+        assertThat(initial.upserts()).isEmpty();
+        ChangeToken first = ChangeToken.decode(initial.next());
+
+        ApplicationChangesResponse idle = applicationService.changes(userId, first, 50, now.minusMinutes(2));
+        assertThat(idle.upserts()).isEmpty();
+        assertThat(idle.deleted()).isEmpty();
+        assertThat(idle.hasMore()).isFalse();
+        ChangeToken second = ChangeToken.decode(idle.next());
+        assertThat(second).isGreaterThan(first);
+
+        ApplicationChangesResponse stillIdle = applicationService.changes(userId, second, 50, now.minusMinutes(1));
+        assertThat(stillIdle.upserts()).isEmpty();
+        ChangeToken third = ChangeToken.decode(stillIdle.next());
+        assertThat(third).isGreaterThan(second);
+
+        Long id = applicationService.create(userId, new UpsertJobApplicationRequest(
+                "Acme", "Dev", ApplicationStatus.APPLIED, null, LocalDate.now(), null, null, null, null
+        )).getId();
+        applicationService.delete(userId, id);
+
+        ApplicationChangesResponse afterDelete = applicationService.changes(userId, third, 50, LocalDateTime.now());
+        assertThat(afterDelete.upserts()).isEmpty();
+        assertThat(afterDelete.deleted()).containsExactly(id);
+        assertThat(ChangeToken.decode(afterDelete.next())).isGreaterThan(third);
+    }
+}
@@ -0,0 +1,170 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.ApplicationChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replay pelo Last-Event-ID, RESYNC quando o id é de outro processo ou já saiu do
+ * buffer, e desconexão do cliente lento sem atrasar os outros streams do usuário.
+ */
+class ApplicationEventHubTest {
+
+    private static final int REPLAY_SIZE = 5;
+    private static final int BUFFER_SIZE = 4;
+
+    private final Queue<RecordingEmitter> nextEmitters = new ArrayDeque<>();
+    private ApplicationEventHub hub;
+
+    @BeforeEach
+    void createHub() {
+        hub = new ApplicationEventHub(new ObjectMapper()) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = nextEmitters.poll();
+                return emitter != null ? emitter : new RecordingEmitter();
+            }
+        };
+        ReflectionTestUtils.setField(hub, "replaySize", REPLAY_SIZE);
+        ReflectionTestUtils.setField(hub, "bufferSize", BUFFER_SIZE);
+        ReflectionTestUtils.setField(hub, "maxConnectionsPerUser", 8);
+        ReflectionTestUtils.setField(hub, "retentionMs", 300_000L);
+    }
+
+    @AfterEach
+    void stopHub() {
+        hub.stop();
+    }
+
+    @Test
+    void replaysEventsMissedSinceLastEventId() {
+        RecordingEmitter first = subscribe(1L, null);
+        publish(1L, 1, 2, 3);
+        await(() -> first.events().size() == 3);
+        List<String> ids = first.ids();
+
+        RecordingEmitter reconnected = subscribe(1L, ids.get(0));
+        await(() -> reconnected.events().size() == 2);
+        assertThat(reconnected.ids()).isEqualTo(ids.subList(1, 3));
+        assertThat(reconnected.events()).noneMatch(event -> event.contains("resync"));
+
+        RecordingEmitter upToDate = subscribe(1L, ids.get(2));
+        publish(1L, 4);
+        await(() -> upToDate.events().size() == 1);
+        assertThat(upToDate.events().get(0)).contains("\"id\":4");
+    }
+
+    @Test
+    void resyncsWhenTheIdIsFromAnotherEpochOrNoLongerBuffered() {
+        RecordingEmitter first = subscribe(2L, null);
+        publish(2L, 1);
+        await(() -> first.events().size() == 1);
+        String oldest = first.ids().get(0);
+
+        RecordingEmitter otherProcess = subscribe(2L, "otherepoch-" + oldest.substring(oldest.lastIndexOf('-') + 1));
+        await(() -> otherProcess.events().size() == 1);
+        assertThat(otherProcess.events().get(0)).contains("resync");
+
+        // REPLAY_SIZE eventos depois do primeiro: ele saiu do buffer
+        publish(2L, LongStream.rangeClosed(2, REPLAY_SIZE + 1).toArray());
+        RecordingEmitter forgotten = subscribe(2L, oldest);
+        await(() -> forgotten.events().size() == 1);
+        assertThat(forgotten.events().get(0)).contains("resync");
+    }
+
+    @Test
+    void slowConsumerIsDisconnectedWithoutStallingTheOthers() throws Exception {
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.gate = new CountDownLatch(1);
+        nextEmitters.add(slow);
+        subscribe(3L, null);
+        RecordingEmitter fast = subscribe(3L, null);
+
+        // o primeiro envio do lento (o "connected") fica preso: a fila dele enche.
+        // Um evento por vez, para a fila do rápido nunca encher antes do envio dele começar.
+        for (int sent = 1; sent <= BUFFER_SIZE + 2; sent++) {
+            publish(3L, sent);
+            int expected = sent;
+            await(() -> fast.events().size() == expected);
+        }
+        assertThat(slow.completed).isTrue();
+
+        publish(3L, 100);
+        await(() -> fast.events().size() == BUFFER_SIZE + 3);
+        slow.gate.countDown();
+        Thread.sleep(100);
+        assertThat(slow.events()).hasSizeLessThanOrEqualTo(BUFFER_SIZE).noneMatch(event -> event.contains("\"id\":100"));
+    }
+
+    private RecordingEmitter subscribe(Long userId, String lastEventId) {
+        return (RecordingEmitter) hub.subscribe(userId, lastEventId);
+    }
+
+    private void publish(Long userId, long... applicationIds) {
+        hub.publish(userId, LongStream.of(applicationIds).mapToObj(ApplicationChangeEvent::deleted).toList());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("timed out").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    /** Guarda o texto de cada envio; com gate, o envio espera até ele abrir (cliente lento). */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            CountDownLatch latch = gate;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            sent.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        /** Só eventos com id (sem os comentários "connected"/"keep-alive"). */
+        List<String> events() {
+            return sent.stream().filter(text -> text.startsWith("id:")).toList();
+        }
+
+        List<String> ids() {
+            return events().stream().map(text -> text.substring(3, text.indexOf('\n'))).toList();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.BulkMutationRequest;
+import com.diego.jobtracker.dto.FollowUpOverview;
+import com.diego.jobtracker.dto.JobApplicationSummary;
+import com.diego.jobtracker.dto.UpsertJobApplicationRequest;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.repository.JobApplicationFilter;
+import com.diego.jobtracker.repository.JobApplicationRepository;
+import com.diego.jobtracker.repository.JobApplicationSpecifications;
+import com.diego.jobtracker.repository.KeysetOrder;
+import com.diego.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static com.diego.jobtracker.support.TestUsers.newUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * As contagens e a ordem do índice em memória batem com as consultas no banco,
+ * depois de cada caminho de escrita, na virada do dia e depois de um rebuild.
+ */
+@SpringBootTest
+class FollowUpIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+    @Autowired
+    private FollowUpIndex followUpIndex;
+
+    @Autowired
+    private JobApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationBulkService bulkService;
+
+    @Autowired
+    private JobApplicationRepository repository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void waitForStartupRebuild() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!followUpIndex.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(followUpIndex.isReady()).isTrue();
+    }
+
+    @Test
+    void countsAndOrderMatchTheDatabaseAcrossWritesAndDays() {
+        Long userId = newUser(userRepository, "FollowUps").getId();
+        Long overdue = create(userId, TODAY.minusDays(3)).getId();
+        Long dueToday = create(userId, TODAY).getId();
+        Long tomorrow = create(userId, TODAY.plusDays(1)).getId();
+        Long moved = create(userId, TODAY.plusDays(5)).getId();
+        Long deleted = create(userId, TODAY.minusDays(1)).getId();
+        create(userId, null);
+        assertMatchesDatabase(userId, TODAY);
+
+        applicationService.update(userId, moved, request(TODAY.minusDays(2)));
+        applicationService.delete(userId, deleted);
+        bulkService.apply(userId, new BulkMutationRequest(
+                List.of(tomorrow), BulkMutationRequest.Operation.SET_FOLLOW_UP_DATE, null, null, TODAY
+        ));
+        bulkService.apply(userId, new BulkMutationRequest(
+                List.of(dueToday), BulkMutationRequest.Operation.SET_FOLLOW_UP_DATE, null, null, null
+        ));
+        // já no valor pedido (null incluído): nada muda
+        assertThat(bulkService.apply(userId, new BulkMutationRequest(
+                List.of(tomorrow), BulkMutationRequest.Operation.SET_FOLLOW_UP_DATE, null, null, TODAY
+        )).affectedIds()).isEmpty();
+        assertThat(bulkService.apply(userId, new BulkMutationRequest(
+                List.of(dueToday), BulkMutationRequest.Operation.SET_FOLLOW_UP_DATE, null, null, null
+        )).affectedIds()).isEmpty();
+
+        FollowUpOverview overview = applicationService.followUps(userId, TODAY, false, 10);
+        assertThat(overview.items()).extracting(JobApplicationSummary::id).containsExactly(overdue, moved, tomorrow);
+        assertMatchesDatabase(userId, TODAY);
+
+        // dias seguintes (virada preguiçosa) e volta no tempo
+        assertMatchesDatabase(userId, TODAY.plusDays(1));
+        assertMatchesDatabase(userId, TODAY.plusDays(30));
+        assertMatchesDatabase(userId, TODAY.minusDays(2));
+        assertMatchesDatabase(userId, TODAY);
+
+        followUpIndex.rebuild();
+        assertMatchesDatabase(userId, TODAY);
+    }
+
+    private void assertMatchesDatabase(Long userId, LocalDate today) {
+        FollowUpIndex.Counts counts = followUpIndex.counts(userId, today);
+        assertThat(counts.due()).as("due on %s", today).isEqualTo(countUntil(userId, today));
+        assertThat(counts.overdue()).as("overdue on %s", today).isEqualTo(countUntil(userId, today.minusDays(1)));
+
+        List<Long> expected = applicationService.listSummariesByCursor(
+                until(userId, today.minusDays(1)),
+                KeysetOrder.FOLLOW_UP_DATE_ASC,
+                null,
+                50
+        ).getContent().stream().map(JobApplicationSummary::id).toList();
+        assertThat(followUpIndex.firstDue(userId, today, true, 50)).isEqualTo(expected);
+    }
+
+    private long countUntil(Long userId, LocalDate last) {
+        return repository.count(JobApplicationSpecifications.matching(until(userId, last)));
+    }
+
+    private static JobApplicationFilter until(Long userId, LocalDate last) {
+        return new JobApplicationFilter(userId, Set.of(), Set.of(), null, null, null, last, null);
+    }
+
+    private JobApplication create(Long userId, LocalDate followUpDate) {
+        return applicationService.create(userId, request(followUpDate));
+    }
+
+    private static UpsertJobApplicationRequest request(LocalDate followUpDate) {
+        return new UpsertJobApplicationRequest(
+                "Acme", "Dev", ApplicationStatus.APPLIED, null, TODAY.minusDays(10), followUpDate, null, null, null
+        );
+    }
+}
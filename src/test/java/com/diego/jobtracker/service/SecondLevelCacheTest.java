@@ -0,0 +1,128 @@
+package com.diego.jobtracker.service;
+
+import com.diego.jobtracker.dto.BulkMutationRequest;
+import com.diego.jobtracker.dto.UpsertJobApplicationRequest;
+import com.diego.jobtracker.dto.auth.UpdateMeRequest;
+import com.diego.jobtracker.model.ApplicationStatus;
+import com.diego.jobtracker.model.CacheRegions;
+import com.diego.jobtracker.model.JobApplication;
+import com.diego.jobtracker.repository.JobApplicationFilter;
+import com.diego.jobtracker.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.cache.CacheManager;
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.diego.jobtracker.support.TestUsers.newUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Leituras repetidas saem do cache de segundo nível (hits nas estatísticas
+ * JCache expostas via JMX) e toda escrita — JPA ou SQL direto — deixa a
+ * próxima leitura com o valor novo.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JobApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationBulkService bulkService;
+
+    @Autowired
+    private JobApplicationExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    @Test
+    void userReadsComeFromCacheAndUpdateMeRefreshesThem() throws Exception {
+        Long userId = newUser(userRepository, "Cache").getId();
+        authService.me(userId);
+
+        long hitsBefore = hits(CacheRegions.USERS);
+        assertThat(authService.me(userId).theme()).isEqualTo("light");
+        assertThat(hits(CacheRegions.USERS)).isGreaterThan(hitsBefore);
+
+        authService.updateMe(userId, new UpdateMeRequest("Renamed", null, null, "dark", null));
+
+        assertThat(authService.me(userId))
+                .satisfies(me -> {
+                    assertThat(me.name()).isEqualTo("Renamed");
+                    assertThat(me.theme()).isEqualTo("dark");
+                });
+    }
+
+    @Test
+    void applicationReadsComeFromCacheAndWritesInvalidateThem() throws Exception {
+        Long userId = newUser(userRepository, "Cache").getId();
+        JobApplication created = applicationService.create(userId, new UpsertJobApplicationRequest(
+                "Acme", "Dev", ApplicationStatus.APPLIED, null, null, null, null, null, null
+        ));
+        Long id = created.getId();
+        applicationService.get(userId, id);
+
+        long hitsBefore = hits(CacheRegions.APPLICATIONS);
+        applicationService.get(userId, id);
+        assertThat(hits(CacheRegions.APPLICATIONS)).isGreaterThan(hitsBefore);
+
+        applicationService.updateStatus(userId, id, ApplicationStatus.INTERVIEW);
+        assertThat(applicationService.get(userId, id).getStatus()).isEqualTo(ApplicationStatus.INTERVIEW);
+
+        // SQL direto (PATCH /applications/bulk) tira a entidade do cache
+        bulkService.apply(userId, new BulkMutationRequest(
+                List.of(id), BulkMutationRequest.Operation.SET_STATUS, ApplicationStatus.OFFER, null, null
+        ));
+        assertThat(entityManagerFactory.getCache().contains(JobApplication.class, id)).isFalse();
+        assertThat(applicationService.get(userId, id).getStatus()).isEqualTo(ApplicationStatus.OFFER);
+    }
+
+    @Test
+    void exportsDoNotFillTheApplicationsRegion() throws Exception {
+        Long userId = newUser(userRepository, "Cache").getId();
+        List<Long> ids = IntStream.range(0, 5)
+                .mapToObj(i -> applicationService.create(userId, new UpsertJobApplicationRequest(
+                        "Acme " + i, "Dev", ApplicationStatus.APPLIED, null, null, null, null, null, null
+                )).getId())
+                .toList();
+        entityManagerFactory.getCache().evict(JobApplication.class);
+
+        long putsBefore = statistic(CacheRegions.APPLICATIONS, "CachePuts");
+        for (String query : new String[]{null, "acme"}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            exportService.export(JobApplicationFilter.forUser(userId), query, FileFormat.NDJSON, out);
+            assertThat(out.toString().lines()).hasSize(ids.size());
+        }
+
+        assertThat(statistic(CacheRegions.APPLICATIONS, "CachePuts")).isEqualTo(putsBefore);
+        assertThat(ids).noneMatch(id -> entityManagerFactory.getCache().contains(JobApplication.class, id));
+    }
+
+    private long hits(String region) throws Exception {
+        return statistic(region, "CacheHits");
+    }
+
+    private long statistic(String region, String attribute) throws Exception {
+        ObjectName name = new ObjectName("javax.cache:type=CacheStatistics"
+                + ",CacheManager=" + hibernateCacheManager.getURI()
+                + ",Cache=" + region);
+        return ((Number) ManagementFactory.getPlatformMBeanServer().getAttribute(name, attribute)).longValue();
+    }
+}
@@ -0,0 +1,50 @@
+package com.diego.jobtracker.support;
+
+import com.diego.jobtracker.observability.SqlStatementFilter;
+import com.diego.jobtracker.observability.SqlStatementStats;
+import org.assertj.core.api.AbstractLongAssert;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserções sobre quantos statements SQL um trecho executa, para fixar o custo de
+ * cada endpoint/caminho e pegar regressões (N+1, lookup extra):
+ *
+ * <pre>
+ * assertStatements(() -> mvc.perform(get("/applications").cookie(session))).isEqualTo(2);
+ * assertStatements(mvc.perform(get("/applications").cookie(session)).andReturn()).isEqualTo(2);
+ * </pre>
+ *
+ * Um batch JDBC conta como um statement (um round trip).
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    /** Statements executados pela ação (MockMvc roda na mesma thread, então a requisição conta). */
+    public static long count(Executable action) {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.open()) {
+            action.execute();
+            return scope.statements();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public static AbstractLongAssert<?> assertStatements(Executable action) {
+        return assertThat(count(action)).as("SQL statements");
+    }
+
+    /** Lê o X-Query-Count da resposta (app.sql-stats.headers=true nos testes). */
+    public static AbstractLongAssert<?> assertStatements(MvcResult result) {
+        String header = result.getResponse().getHeader(SqlStatementFilter.QUERY_COUNT_HEADER);
+        assertThat(header).as(SqlStatementFilter.QUERY_COUNT_HEADER + " header").isNotNull();
+        return assertThat(Long.parseLong(header)).as("SQL statements of %s %s",
+                result.getRequest().getMethod(), result.getRequest().getRequestURI());
+    }
+}
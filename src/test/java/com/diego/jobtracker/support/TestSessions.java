@@ -0,0 +1,43 @@
+package com.diego.jobtracker.support;
+
+import jakarta.servlet.http.Cookie;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cadastro/login pelo /auth via MockMvc, devolvendo o cookie de sessão para as
+ * requisições seguintes. O e-mail de register(mvc, prefix) é único por chamada.
+ */
+public final class TestSessions {
+
+    public static final String PASSWORD = "secret123";
+
+    private static final String SESSION_COOKIE = "jt_session";
+
+    private TestSessions() {
+    }
+
+    public static String uniqueEmail(String prefix) {
+        return prefix + "-" + System.nanoTime() + "@test.local";
+    }
+
+    public static Cookie register(MockMvc mvc, String prefix) throws Exception {
+        return registerEmail(mvc, uniqueEmail(prefix));
+    }
+
+    public static Cookie registerEmail(MockMvc mvc, String email) throws Exception {
+        return mvc.perform(post("/auth/register").contentType("application/json")
+                        .content("{\"name\":\"Test\",\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(SESSION_COOKIE);
+    }
+
+    public static Cookie login(MockMvc mvc, String email) throws Exception {
+        return mvc.perform(post("/auth/login").contentType("application/json")
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie(SESSION_COOKIE);
+    }
+}
@@ -0,0 +1,28 @@
+package com.diego.jobtracker.support;
+
+import com.diego.jobtracker.model.User;
+import com.diego.jobtracker.repository.UserRepository;
+
+import java.util.Locale;
+
+/**
+ * Usuário novo gravado direto no repositório, para testes de serviço que não passam
+ * pelo /auth/register. O e-mail é único por chamada, então os testes não colidem no
+ * mesmo contexto.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User newUser(UserRepository userRepository, String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name.toLowerCase(Locale.ROOT) + "-" + System.nanoTime() + "@test.local");
+        user.setPasswordHash("x");
+        user.setLanguage("pt");
+        user.setTheme("light");
+        user.setSidebarVisible(true);
+        return userRepository.save(user);
+    }
+}